@@ -29,6 +29,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.BufferPool;
+import org.cactoos.io.ThreadLocalBufferPool;
 
 /**
  * Digest Envelope.
@@ -57,6 +59,11 @@ public abstract class DigestEnvelope implements Bytes {
      */
     private final String algorithm;
 
+    /**
+     * Pool of buffers.
+     */
+    private final BufferPool pool;
+
     /**
      * Ctor.
      * @param input The input
@@ -76,19 +83,37 @@ public abstract class DigestEnvelope implements Bytes {
         final Input input,
         final int max,
         final String algrthm
+    ) {
+        this(input, max, algrthm, new ThreadLocalBufferPool());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param algrthm The algorithm
+     * @param buffers Pool of buffers
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    public DigestEnvelope(
+        final Input input,
+        final int max,
+        final String algrthm,
+        final BufferPool buffers
     ) {
         this.source = input;
         this.size = max;
         this.algorithm = algrthm;
+        this.pool = buffers;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
+        final byte[] buf = this.pool.take(this.size);
         try (InputStream stream = this.source.stream()) {
             final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
             while (true) {
-                final int len = stream.read(buf);
+                final int len = stream.read(buf, 0, this.size);
                 if (len < 0) {
                     break;
                 }
@@ -97,6 +122,8 @@ public abstract class DigestEnvelope implements Bytes {
             return msg.digest();
         } catch (final NoSuchAlgorithmException ex) {
             throw new IOException(ex);
+        } finally {
+            this.pool.release(buf);
         }
     }
 }
@@ -25,19 +25,24 @@
 package org.cactoos.bytes;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.Iterator;
 import org.cactoos.Bytes;
 import org.cactoos.Text;
-import org.cactoos.iterator.Mapped;
 import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
 
 /**
  * Decodes origin {@link Text} using the hexadecimal encoding scheme.
  *
+ * <p>ASCII digits are decoded with a lookup table.</p>
+ *
  * @since 0.30
  */
 public final class HexOf implements Bytes {
+    /**
+     * Values of ASCII hexadecimal digits, or -1.
+     */
+    private static final byte[] DIGITS = HexOf.digits();
+
     /**
      * Origin hexadecimal text.
      */
@@ -58,33 +63,48 @@ public final class HexOf implements Bytes {
         if ((hex.length() & 1) == 1) {
             throw new IOException("Length of hexadecimal text is odd");
         }
-        final Iterator<Integer> iter = new Mapped<>(
-            c -> {
-                final int result = Character.digit(c, 16);
-                if (result == -1) {
-                    throw new IOException(
-                        new FormattedText(
-                            "Unexpected character '%c'",
-                            c
-                        ).asString()
-                    );
-                }
-                return result;
-            },
-            hex.chars().mapToObj(c -> (char) c).iterator()
-        );
         final byte[] result = new byte[hex.length() / 2];
-        int index = 0;
-        while (index < hex.length()) {
-            try {
-                final int most = iter.next();
-                final int less = iter.next();
-                result[index >>> 1] = (byte) ((most << 4) + less);
-                index += 2;
-            } catch (final UncheckedIOException ex) {
-                throw ex.getCause();
-            }
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) (
+                (HexOf.digit(hex.charAt(index << 1)) << 4)
+                    + HexOf.digit(hex.charAt((index << 1) + 1))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Value of a hexadecimal digit.
+     * @param chr The digit
+     * @return The value
+     * @throws IOException If it is not a digit
+     */
+    private static int digit(final char chr) throws IOException {
+        final int result;
+        if (chr < HexOf.DIGITS.length) {
+            result = HexOf.DIGITS[chr];
+        } else {
+            result = Character.digit(chr, 16);
+        }
+        if (result == -1) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText("Unexpected character '%c'", chr)
+                ).asString()
+            );
         }
         return result;
     }
+
+    /**
+     * Values of ASCII hexadecimal digits.
+     * @return The table
+     */
+    private static byte[] digits() {
+        final byte[] table = new byte[0x80];
+        for (int chr = 0; chr < table.length; ++chr) {
+            table[chr] = (byte) Character.digit(chr, 16);
+        }
+        return table;
+    }
 }
@@ -27,8 +27,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.BufferPool;
 import org.cactoos.io.OutputTo;
 import org.cactoos.io.TeeInput;
+import org.cactoos.io.ThreadLocalBufferPool;
 
 /**
  * Input as Byte Array.
@@ -50,6 +52,11 @@ public final class InputAsBytes implements Bytes {
      */
     private final int size;
 
+    /**
+     * Pool of buffers.
+     */
+    private final BufferPool pool;
+
     /**
      * Ctor.
      * @param input The input
@@ -64,8 +71,19 @@ public final class InputAsBytes implements Bytes {
      * @param max Max length of the buffer for reading
      */
     InputAsBytes(final Input input, final int max) {
+        this(input, max, new ThreadLocalBufferPool());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Max length of the buffer for reading
+     * @param buffers Pool of buffers
+     */
+    InputAsBytes(final Input input, final int max, final BufferPool buffers) {
         this.source = input;
         this.size = max;
+        this.pool = buffers;
     }
 
     @Override
@@ -77,11 +95,15 @@ public final class InputAsBytes implements Bytes {
                 new OutputTo(baos)
             ).stream()
         ) {
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                if (stream.read(buf) < 0) {
-                    break;
+            final byte[] buf = this.pool.take(this.size);
+            try {
+                while (true) {
+                    if (stream.read(buf, 0, this.size) < 0) {
+                        break;
+                    }
                 }
+            } finally {
+                this.pool.release(buf);
             }
             return baos.toByteArray();
         }
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.util.concurrent.ThreadFactory;
+import org.cactoos.Input;
+
+/**
+ * Input that reads ahead of its consumer in a background thread.
+ *
+ * <p>Use it when the consumer alternates CPU work with blocking I/O of
+ * the original input, for example when hashing or decoding data that
+ * comes from the network:</p>
+ *
+ * <pre> new Sha256DigestOf(
+ *   new AsyncInput(new InputOf(new URL("https://www.example.com")))
+ * ).asBytes();</pre>
+ *
+ * <p>Errors of the original input are re-thrown in the consumer thread.
+ * The stream must be closed, otherwise the background thread stays
+ * blocked until the end of the JVM.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AsyncInputStream
+ * @since 1.0
+ */
+public final class AsyncInput implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * How many buffers may be read ahead.
+     */
+    private final int depth;
+
+    /**
+     * The buffer size.
+     */
+    private final int size;
+
+    /**
+     * Factory of the background thread.
+     */
+    private final ThreadFactory factory;
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    public AsyncInput(final Input input) {
+        this(input, 4, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param dpt How many buffers may be read ahead
+     * @param max Max length of each buffer
+     */
+    public AsyncInput(final Input input, final int dpt, final int max) {
+        this(input, dpt, max, new Daemons("cactoos-async-input"));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param dpt How many buffers may be read ahead
+     * @param max Max length of each buffer
+     * @param fct Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncInput(final Input input, final int dpt, final int max,
+        final ThreadFactory fct) {
+        this.origin = input;
+        this.depth = dpt;
+        this.size = max;
+        this.factory = fct;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new AsyncInputStream(
+            this.origin.stream(),
+            this.depth,
+            this.size,
+            this.factory
+        );
+    }
+}
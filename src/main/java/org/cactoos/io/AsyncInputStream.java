@@ -0,0 +1,279 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Input stream that reads ahead of its consumer in a background thread.
+ *
+ * <p>A fixed number of buffers is allocated once and recycled: the
+ * background thread fills a free buffer from the original stream and hands
+ * it over to the consumer, which returns it back to the pool as soon as
+ * it is fully read. Errors of the original stream, including
+ * {@link Error}s, are re-thrown by {@link #read(byte[], int, int)} in the
+ * consumer thread, on this and every later read.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class AsyncInputStream extends InputStream {
+
+    /**
+     * Original input stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * Buffers ready to be filled.
+     */
+    private final BlockingQueue<byte[]> free;
+
+    /**
+     * Chunks ready to be consumed.
+     */
+    private final BlockingQueue<AsyncInputStream.Chunk> filled;
+
+    /**
+     * The background thread.
+     */
+    private final Thread worker;
+
+    /**
+     * The chunk being consumed now.
+     */
+    private AsyncInputStream.Chunk current;
+
+    /**
+     * Position inside the current chunk.
+     */
+    private int position;
+
+    /**
+     * Is it closed?
+     */
+    private volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     */
+    public AsyncInputStream(final InputStream stream) {
+        this(stream, 4, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param depth How many buffers may be read ahead
+     * @param size Size of each buffer
+     */
+    public AsyncInputStream(final InputStream stream, final int depth,
+        final int size) {
+        this(stream, depth, size, new Daemons("cactoos-async-input"));
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param depth How many buffers may be read ahead
+     * @param size Size of each buffer
+     * @param factory Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncInputStream(final InputStream stream, final int depth,
+        final int size, final ThreadFactory factory) {
+        super();
+        if (depth < 1) {
+            throw new IllegalArgumentException(
+                String.format("Depth must be positive: %d", depth)
+            );
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                String.format("Buffer size must be positive: %d", size)
+            );
+        }
+        this.origin = stream;
+        this.free = new ArrayBlockingQueue<>(depth);
+        for (int idx = 0; idx < depth; ++idx) {
+            this.free.add(new byte[size]);
+        }
+        this.filled = new ArrayBlockingQueue<>(depth + 1);
+        this.worker = factory.newThread(this::fill);
+        this.worker.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        final AsyncInputStream.Chunk chunk = this.chunk();
+        int data = -1;
+        if (chunk.length >= 0) {
+            data = chunk.data[this.position] & 0xFF;
+            ++this.position;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        int read = 0;
+        if (len > 0) {
+            final AsyncInputStream.Chunk chunk = this.chunk();
+            if (chunk.length < 0) {
+                read = -1;
+            } else {
+                read = Math.min(len, chunk.length - this.position);
+                System.arraycopy(chunk.data, this.position, buf, offset, read);
+                this.position += read;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        int available = 0;
+        if (this.current != null && this.current.length > 0) {
+            available = this.current.length - this.position;
+        }
+        return available;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            this.worker.interrupt();
+            this.origin.close();
+        }
+    }
+
+    /**
+     * Chunk that still has bytes to read, or the end of the stream.
+     *
+     * <p>Once the original stream has failed, its failure is thrown on
+     * every call.</p>
+     * @return The chunk
+     * @throws IOException If fails
+     */
+    private AsyncInputStream.Chunk chunk() throws IOException {
+        while (this.current == null || this.current.length >= 0
+            && this.position == this.current.length) {
+            if (this.current != null) {
+                this.free.add(this.current.data);
+            }
+            try {
+                this.current = this.filled.take();
+            } catch (final InterruptedException ex) {
+                this.current = null;
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            }
+            this.position = 0;
+        }
+        if (this.current.error != null) {
+            throw new IOException(this.current.error);
+        }
+        return this.current;
+    }
+
+    /**
+     * Fill free buffers from the original stream, until it's over.
+     *
+     * <p>The last chunk, either the end of the stream or a failure, is
+     * always handed over, so that the consumer never waits forever.</p>
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void fill() {
+        AsyncInputStream.Chunk last;
+        try {
+            while (true) {
+                final byte[] buf = this.free.take();
+                final int len = this.origin.read(buf, 0, buf.length);
+                if (len < 0) {
+                    last = new AsyncInputStream.Chunk(buf, -1, null);
+                    break;
+                }
+                this.filled.put(new AsyncInputStream.Chunk(buf, len, null));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            last = new AsyncInputStream.Chunk(
+                null, -1, new InterruptedIOException(ex.getMessage())
+            );
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            last = new AsyncInputStream.Chunk(null, -1, ex);
+        }
+        this.filled.add(last);
+    }
+
+    /**
+     * A portion of data read ahead.
+     * @since 1.0
+     */
+    private static final class Chunk {
+
+        /**
+         * The buffer.
+         */
+        private final byte[] data;
+
+        /**
+         * Number of valid bytes in the buffer, or -1 at the end.
+         */
+        private final int length;
+
+        /**
+         * The failure, if any.
+         */
+        private final Throwable error;
+
+        /**
+         * Ctor.
+         * @param buf The buffer
+         * @param len Number of valid bytes
+         * @param err The failure or NULL
+         */
+        Chunk(final byte[] buf, final int len, final Throwable err) {
+            this.data = buf;
+            this.length = len;
+            this.error = err;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadFactory;
+import org.cactoos.Output;
+
+/**
+ * Output that writes behind its producers in a background thread.
+ *
+ * <p>Use it when many threads write small records, like an audit log,
+ * and must not wait for the disk:</p>
+ *
+ * <pre> OutputStream log = new AsyncOutput(file, 65_536, true).stream();</pre>
+ *
+ * <p>The stream is safe to share between threads, see
+ * {@link AsyncOutputStream} for its exact semantics. It must be closed,
+ * otherwise the last writes may never reach the original output.
+ * Only files can be forced to the storage device: when {@code sync} is
+ * requested for an output whose stream is not a
+ * {@link java.io.FileOutputStream}, {@link #stream()} throws
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AsyncOutputStream
+ * @since 1.0
+ */
+public final class AsyncOutput implements Output {
+
+    /**
+     * The output of the asynchronous stream.
+     */
+    private final Output origin;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public AsyncOutput(final Output output) {
+        this(output, 64 << 10, false);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param cap How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     */
+    public AsyncOutput(final Output output, final int cap,
+        final boolean sync) {
+        this(output, cap, sync, new Daemons("cactoos-async-output"));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param cap How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     * @param fct Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncOutput(final Output output, final int cap,
+        final boolean sync, final ThreadFactory fct) {
+        this.origin = () -> new AsyncOutputStream(
+            output.stream(), cap, sync, fct
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The file is created if absent, and appended to.</p>
+     *
+     * @param file The file
+     * @param cap How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     */
+    public AsyncOutput(final Path file, final int cap, final boolean sync) {
+        this(file, cap, sync, new Daemons("cactoos-async-output"));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The file is created if absent, and appended to.</p>
+     *
+     * @param file The file
+     * @param cap How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     * @param fct Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncOutput(final Path file, final int cap, final boolean sync,
+        final ThreadFactory fct) {
+        this.origin = () -> new AsyncOutputStream(
+            FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+            ),
+            cap, sync, fct
+        );
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return this.origin.stream();
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Output stream that writes behind its producers in a background thread.
+ *
+ * <p>Writes from any number of threads are copied into a lock-free queue
+ * and return immediately. A single background thread drains the queue in
+ * batches, writes each batch to the original stream and flushes it once
+ * per batch (group commit). When {@code fsync} is requested, every batch
+ * is also forced to the storage device. Only a {@link FileChannel} or a
+ * {@link FileOutputStream} can be forced, so for other streams the
+ * constructor throws {@link IllegalArgumentException}.</p>
+ *
+ * <p>The queue is bounded by bytes: when {@code capacity} bytes are
+ * pending, producers block until the background thread catches up. A
+ * write larger than the capacity waits until the queue is empty.
+ * {@link #flush()} blocks until everything written by the calling
+ * thread before it is committed; {@link #close()} flushes, stops the
+ * background thread and closes the original stream. A failure of the
+ * original stream is re-thrown by the next write, flush or close.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class AsyncOutputStream extends OutputStream {
+
+    /**
+     * Original output stream.
+     */
+    private final OutputStream origin;
+
+    /**
+     * Writes waiting to be committed.
+     */
+    private final Queue<byte[]> pending;
+
+    /**
+     * Max number of bytes in the queue.
+     */
+    private final int capacity;
+
+    /**
+     * Free bytes in the queue.
+     */
+    private final Semaphore slots;
+
+    /**
+     * Signals to the background thread.
+     */
+    private final Semaphore signal;
+
+    /**
+     * The channel to force every batch to the storage device, or NULL.
+     */
+    private final FileChannel channel;
+
+    /**
+     * How many writes were submitted.
+     */
+    private final AtomicLong submitted;
+
+    /**
+     * The failure of the original stream, if any.
+     */
+    private final AtomicReference<IOException> failure;
+
+    /**
+     * The lock to wait for commits.
+     */
+    private final Object lock;
+
+    /**
+     * The background thread.
+     */
+    private final Thread worker;
+
+    /**
+     * How many writes were committed.
+     */
+    private long committed;
+
+    /**
+     * Is it closed?
+     */
+    private volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     */
+    public AsyncOutputStream(final OutputStream stream) {
+        this(stream, 64 << 10, false);
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param capacity How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     */
+    public AsyncOutputStream(final OutputStream stream, final int capacity,
+        final boolean sync) {
+        this(stream, capacity, sync, new Daemons("cactoos-async-output"));
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param capacity How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     * @param factory Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncOutputStream(final OutputStream stream, final int capacity,
+        final boolean sync, final ThreadFactory factory) {
+        this(
+            stream, AsyncOutputStream.forceable(stream, sync),
+            capacity, factory
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param file The channel of the original file
+     * @param capacity How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     */
+    public AsyncOutputStream(final FileChannel file, final int capacity,
+        final boolean sync) {
+        this(file, capacity, sync, new Daemons("cactoos-async-output"));
+    }
+
+    /**
+     * Ctor.
+     * @param file The channel of the original file
+     * @param capacity How many bytes may wait in the queue
+     * @param sync Force every batch to the storage device
+     * @param factory Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AsyncOutputStream(final FileChannel file, final int capacity,
+        final boolean sync, final ThreadFactory factory) {
+        this(
+            Channels.newOutputStream(file),
+            AsyncOutputStream.forced(file, sync),
+            capacity, factory
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param file The channel to force, or NULL
+     * @param capacity How many bytes may wait in the queue
+     * @param factory Factory of the background thread
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private AsyncOutputStream(final OutputStream stream,
+        final FileChannel file, final int capacity,
+        final ThreadFactory factory) {
+        super();
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity must be positive: %d", capacity)
+            );
+        }
+        this.origin = stream;
+        this.capacity = capacity;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.slots = new Semaphore(capacity);
+        this.signal = new Semaphore(0);
+        this.channel = file;
+        this.submitted = new AtomicLong();
+        this.failure = new AtomicReference<>();
+        this.lock = new Object();
+        this.worker = factory.newThread(this::drain);
+        this.worker.start();
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        this.verify();
+        if (len > 0) {
+            try {
+                this.slots.acquire(Math.min(len, this.capacity));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            }
+            final byte[] copy = new byte[len];
+            System.arraycopy(buf, offset, copy, 0, len);
+            this.submitted.incrementAndGet();
+            this.pending.add(copy);
+            this.signal.release();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.verify();
+        this.await(this.submitted.get());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            try {
+                this.await(this.submitted.get());
+            } finally {
+                this.closed = true;
+                this.signal.release();
+                try {
+                    this.worker.join();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    this.origin.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Make sure the stream is still usable.
+     * @throws IOException If it's not
+     */
+    private void verify() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        final IOException error = this.failure.get();
+        if (error != null) {
+            throw new IOException(error);
+        }
+    }
+
+    /**
+     * Wait until the given number of writes are committed.
+     * @param target Number of writes
+     * @throws IOException If fails
+     */
+    private void await(final long target) throws IOException {
+        synchronized (this.lock) {
+            while (this.committed < target && this.failure.get() == null) {
+                try {
+                    this.lock.wait();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(ex.getMessage());
+                }
+            }
+        }
+        final IOException error = this.failure.get();
+        if (error != null) {
+            throw new IOException(error);
+        }
+    }
+
+    /**
+     * Drain the queue in batches, until the stream is closed.
+     *
+     * <p>If the background thread is interrupted, the stream fails, so
+     * that neither producers nor flushes wait for commits that will never
+     * happen.</p>
+     */
+    private void drain() {
+        try {
+            while (!this.closed || !this.pending.isEmpty()) {
+                this.signal.acquire();
+                this.signal.drainPermits();
+                this.commit();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.failure.compareAndSet(
+                null, new InterruptedIOException(ex.getMessage())
+            );
+        } finally {
+            this.slots.release(this.capacity);
+            synchronized (this.lock) {
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Write everything that is in the queue now, as one batch.
+     */
+    private void commit() {
+        int batch = 0;
+        int bytes = 0;
+        for (byte[] data = this.pending.poll(); data != null;
+            data = this.pending.poll()) {
+            if (this.failure.get() == null) {
+                try {
+                    this.origin.write(data);
+                } catch (final IOException ex) {
+                    this.failure.compareAndSet(null, ex);
+                }
+            }
+            batch += 1;
+            bytes += Math.min(data.length, this.capacity);
+        }
+        if (batch > 0 && this.failure.get() == null) {
+            try {
+                this.origin.flush();
+                if (this.channel != null) {
+                    this.channel.force(false);
+                }
+            } catch (final IOException ex) {
+                this.failure.compareAndSet(null, ex);
+            }
+        }
+        synchronized (this.lock) {
+            this.committed += batch;
+            this.lock.notifyAll();
+        }
+        this.slots.release(bytes);
+    }
+
+    /**
+     * The channel to force a stream, if requested.
+     * @param stream The stream
+     * @param sync Force every batch to the storage device
+     * @return The channel or NULL if not requested
+     */
+    private static FileChannel forceable(final OutputStream stream,
+        final boolean sync) {
+        if (sync && !(stream instanceof FileOutputStream)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't force %s to the storage device, use a FileChannel",
+                    stream.getClass().getName()
+                )
+            );
+        }
+        FileChannel file = null;
+        if (sync) {
+            file = ((FileOutputStream) stream).getChannel();
+        }
+        return file;
+    }
+
+    /**
+     * The channel to force, if requested.
+     * @param file The channel
+     * @param sync Force every batch to the storage device
+     * @return The channel or NULL if not requested
+     */
+    private static FileChannel forced(final FileChannel file,
+        final boolean sync) {
+        FileChannel forced = null;
+        if (sync) {
+            forced = file;
+        }
+        return forced;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+/**
+ * Pool of byte buffers for reading and writing streams.
+ *
+ * <p>Streaming classes, like {@link TailOf} or
+ * {@link org.cactoos.scalar.LengthOf}, take a buffer from the pool,
+ * use it while the stream is being read and give it back:</p>
+ *
+ * <pre> final byte[] buf = pool.take(16 &lt;&lt; 10);
+ * try {
+ *   stream.read(buf, 0, 16 &lt;&lt; 10);
+ * } finally {
+ *   pool.release(buf);
+ * }</pre>
+ *
+ * <p>A buffer may be longer than requested, since pools keep buffers
+ * in size classes. A buffer must not be used after it is released.</p>
+ *
+ * @see ThreadLocalBufferPool
+ * @since 1.0
+ */
+public interface BufferPool {
+
+    /**
+     * Take a buffer from the pool.
+     * @param size Minimum length of the buffer
+     * @return The buffer, which is at least the size requested
+     */
+    byte[] take(int size);
+
+    /**
+     * Give the buffer back to the pool.
+     * @param buffer The buffer taken from this pool before
+     */
+    void release(byte[] buffer);
+
+}
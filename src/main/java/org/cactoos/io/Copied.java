@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import org.cactoos.Input;
+import org.cactoos.Output;
+import org.cactoos.scalar.ScalarEnvelope;
+
+/**
+ * Number of bytes copied from an input to an output,
+ * or of chars copied from a reader to a writer.
+ *
+ * <p>When the input is a file, the data is transferred by
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which
+ * lets the operating system avoid copying it into the JVM at all, if the
+ * output is a file too. Otherwise it goes through one reused buffer,
+ * without allocating anything per chunk:</p>
+ *
+ * <pre> long bytes = new Copied(
+ *   new InputOf(new File("/tmp/source.bin")),
+ *   new OutputTo(new File("/tmp/target.bin"))
+ * ).value();</pre>
+ *
+ * <p>Chars of a {@link Reader} are copied to a {@link Writer} through
+ * one buffer, so even a huge text, transformed on the fly by
+ * {@link ReplacedReader} or {@link LoweredReader}, takes constant
+ * memory. In this case the number of chars is returned.</p>
+ *
+ * <p>Both streams are closed at the end.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Copied extends ScalarEnvelope<Long> {
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param output The output
+     */
+    public Copied(final Input input, final Output output) {
+        this(input, output, 64 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param output The output
+     * @param max Size of the buffer
+     */
+    public Copied(final Input input, final Output output, final int max) {
+        super(
+            () -> {
+                if (max < 1) {
+                    throw new IllegalArgumentException(
+                        String.format("Buffer size must be positive: %d", max)
+                    );
+                }
+                try (
+                    InputStream src = input.stream();
+                    OutputStream dst = output.stream()
+                ) {
+                    long total = 0L;
+                    if (src instanceof FileInputStream) {
+                        final FileChannel file =
+                            ((FileInputStream) src).getChannel();
+                        final WritableByteChannel target =
+                            Channels.newChannel(dst);
+                        final long start = file.position();
+                        final long end = file.size();
+                        while (start + total < end) {
+                            total += file.transferTo(
+                                start + total, end - start - total, target
+                            );
+                        }
+                    } else {
+                        final byte[] buf = new byte[max];
+                        for (int len = src.read(buf); len >= 0;
+                            len = src.read(buf)) {
+                            dst.write(buf, 0, len);
+                            total += len;
+                        }
+                    }
+                    return total;
+                }
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param output The output, in UTF-8
+     */
+    public Copied(final Reader reader, final Output output) {
+        this(reader, new WriterTo(output));
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param writer The writer
+     */
+    public Copied(final Reader reader, final Writer writer) {
+        super(
+            () -> {
+                try (Reader src = reader; Writer dst = writer) {
+                    final char[] buf = new char[8 << 10];
+                    long total = 0L;
+                    for (int len = src.read(buf); len >= 0;
+                        len = src.read(buf)) {
+                        dst.write(buf, 0, len);
+                        total += len;
+                    }
+                    return total;
+                }
+            }
+        );
+    }
+}
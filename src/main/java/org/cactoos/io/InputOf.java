@@ -30,6 +30,8 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import org.cactoos.Bytes;
@@ -296,6 +298,14 @@ public final class InputOf implements Input {
         this(() -> stream);
     }
 
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    public InputOf(final ReadableByteChannel channel) {
+        this(() -> Channels.newInputStream(channel));
+    }
+
     /**
      * Ctor.
      *
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader that converts all chars to lower case, on the fly.
+ *
+ * <p>It is a streaming counterpart of {@link org.cactoos.text.Lowered},
+ * which never keeps the text in memory. Chars are converted one by one
+ * with {@link Character#toLowerCase(char)}, so the rules that depend on
+ * the locale or on the neighbour chars are not applied.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LoweredReader extends Reader {
+
+    /**
+     * The original reader.
+     */
+    private final Reader origin;
+
+    /**
+     * Ctor.
+     * @param reader The original reader
+     */
+    public LoweredReader(final Reader reader) {
+        super();
+        this.origin = reader;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int offset, final int length)
+        throws IOException {
+        final int done = this.origin.read(cbuf, offset, length);
+        for (int idx = offset; idx < offset + done; ++idx) {
+            cbuf[idx] = Character.toLowerCase(cbuf[idx]);
+        }
+        return done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+/**
+ * Literal string to search for in a stream of chars, char by char.
+ *
+ * <p>The search is a Knuth-Morris-Pratt automaton: its state is the
+ * length of the needle prefix matched so far, and every char moves it
+ * forward or back, never re-reading the stream.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Needle {
+
+    /**
+     * The needle.
+     */
+    private final String text;
+
+    /**
+     * Failure function: length of the longest proper border of each prefix.
+     */
+    private final int[] borders;
+
+    /**
+     * Ctor.
+     * @param needle The needle
+     */
+    Needle(final CharSequence needle) {
+        if (needle.length() == 0) {
+            throw new IllegalArgumentException("The needle can't be empty");
+        }
+        this.text = needle.toString();
+        this.borders = new int[this.text.length()];
+        int border = 0;
+        for (int idx = 1; idx < this.text.length(); ++idx) {
+            while (border > 0
+                && this.text.charAt(idx) != this.text.charAt(border)) {
+                border = this.borders[border - 1];
+            }
+            if (this.text.charAt(idx) == this.text.charAt(border)) {
+                border += 1;
+            }
+            this.borders[idx] = border;
+        }
+    }
+
+    /**
+     * Length of the needle.
+     * @return Length
+     */
+    int length() {
+        return this.text.length();
+    }
+
+    /**
+     * Char of the needle.
+     * @param index Index of the char
+     * @return The char
+     */
+    char charAt(final int index) {
+        return this.text.charAt(index);
+    }
+
+    /**
+     * Next state of the search.
+     * @param state Length of the prefix matched so far
+     * @param chr Next char of the stream
+     * @return Length of the prefix matched, the needle length on match
+     */
+    int next(final int state, final char chr) {
+        int next = state;
+        if (next == this.text.length()) {
+            next = this.borders[next - 1];
+        }
+        while (next > 0 && this.text.charAt(next) != chr) {
+            next = this.borders[next - 1];
+        }
+        if (this.text.charAt(next) == chr) {
+            next += 1;
+        }
+        return next;
+    }
+}
@@ -27,6 +27,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.file.Path;
@@ -174,6 +176,14 @@ public final class OutputTo implements Output {
         this(() -> stream);
     }
 
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    public OutputTo(final WritableByteChannel channel) {
+        this(() -> Channels.newOutputStream(channel));
+    }
+
     /**
      * Ctor.
      * @param output The output
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import org.cactoos.Output;
+
+/**
+ * Output to a gzip stream, compressed by many threads.
+ *
+ * <p>Unlike {@link GzipOutput}, which is limited by one core, it
+ * compresses blocks of data in parallel and writes them as members of
+ * a multi-member gzip stream, which {@link GzipInput} reads as usual.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ParallelGzipOutputStream
+ * @since 1.0
+ */
+public final class ParallelGzipOutput implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * Size of one block.
+     */
+    private final int size;
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public ParallelGzipOutput(final Output output) {
+        this(output, 128 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Size of one block
+     */
+    public ParallelGzipOutput(final Output output, final int max) {
+        this(output, max, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Size of one block
+     * @param thr Number of threads
+     */
+    public ParallelGzipOutput(final Output output, final int max,
+        final int thr) {
+        this.origin = output;
+        this.size = max;
+        this.threads = thr;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return new ParallelGzipOutputStream(
+            this.origin.stream(),
+            this.size,
+            this.threads
+        );
+    }
+}
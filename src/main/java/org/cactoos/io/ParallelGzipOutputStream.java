@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream that compresses blocks of data in parallel, like pigz.
+ *
+ * <p>The data is cut into blocks of fixed size, each block is compressed
+ * into an independent gzip member by a pool of threads and the members
+ * are written to the original stream in their original order. The
+ * result is a standard multi-member gzip stream, readable by
+ * {@link java.util.zip.GZIPInputStream} and {@link GzipInput}.</p>
+ *
+ * <p>Every {@link #flush()} ends the current block, so frequent flushes
+ * make compression worse.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ParallelGzipOutputStream extends OutputStream {
+
+    /**
+     * Original output stream.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The executor service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Shutdown the executor on close?
+     */
+    private final boolean own;
+
+    /**
+     * Blocks being compressed, in their order.
+     */
+    private final Queue<Future<byte[]>> members;
+
+    /**
+     * Max number of blocks being compressed at the same time.
+     */
+    private final int limit;
+
+    /**
+     * The block being filled.
+     */
+    private byte[] block;
+
+    /**
+     * Number of bytes in the block.
+     */
+    private int position;
+
+    /**
+     * Was anything written to the original stream?
+     */
+    private boolean started;
+
+    /**
+     * Is it closed?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     */
+    public ParallelGzipOutputStream(final OutputStream stream) {
+        this(stream, 128 << 10, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param size Size of one block
+     * @param threads Number of threads
+     */
+    public ParallelGzipOutputStream(final OutputStream stream, final int size,
+        final int threads) {
+        this(
+            stream, size,
+            Executors.newFixedThreadPool(
+                threads, new Daemons("cactoos-parallel-gzip")
+            ),
+            threads, true
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param size Size of one block
+     * @param exec The executor, which is not shut down on close
+     * @param max Max number of blocks being compressed at the same time
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ParallelGzipOutputStream(final OutputStream stream, final int size,
+        final ExecutorService exec, final int max) {
+        this(stream, size, exec, max, false);
+    }
+
+    /**
+     * Ctor.
+     * @param stream The original stream
+     * @param size Size of one block
+     * @param exec The executor
+     * @param max Max number of blocks being compressed at the same time
+     * @param shutdown Shutdown the executor on close
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private ParallelGzipOutputStream(final OutputStream stream, final int size,
+        final ExecutorService exec, final int max, final boolean shutdown) {
+        super();
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                String.format("Block size must be positive: %d", size)
+            );
+        }
+        this.origin = stream;
+        this.executor = exec;
+        this.own = shutdown;
+        this.members = new LinkedList<>();
+        this.limit = Math.max(1, max) * 2;
+        this.block = new byte[size];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        int done = 0;
+        while (done < len) {
+            final int chunk = Math.min(
+                len - done, this.block.length - this.position
+            );
+            System.arraycopy(
+                buf, offset + done, this.block, this.position, chunk
+            );
+            this.position += chunk;
+            done += chunk;
+            if (this.position == this.block.length) {
+                this.submit();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.submit();
+        this.emit(0);
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            try {
+                this.submit();
+                this.emit(0);
+                if (!this.started) {
+                    this.origin.write(
+                        new ParallelGzipOutputStream.Member(
+                            this.block, 0
+                        ).call()
+                    );
+                }
+                this.closed = true;
+            } finally {
+                if (this.own) {
+                    this.executor.shutdownNow();
+                }
+                this.origin.close();
+            }
+        }
+    }
+
+    /**
+     * Send the current block to compression, if it's not empty.
+     * @throws IOException If fails
+     */
+    private void submit() throws IOException {
+        if (this.position > 0) {
+            this.members.add(
+                this.executor.submit(
+                    new ParallelGzipOutputStream.Member(
+                        this.block, this.position
+                    )
+                )
+            );
+            this.block = new byte[this.block.length];
+            this.position = 0;
+            this.emit(this.limit);
+        }
+    }
+
+    /**
+     * Write compressed members, until no more than given number are left.
+     * @param max Number of members that may stay in compression
+     * @throws IOException If fails
+     */
+    private void emit(final int max) throws IOException {
+        while (this.members.size() > max) {
+            try {
+                this.origin.write(this.members.poll().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+            this.started = true;
+        }
+    }
+
+    /**
+     * One block compressed into a gzip member.
+     * @since 1.0
+     */
+    private static final class Member implements Callable<byte[]> {
+
+        /**
+         * The data.
+         */
+        private final byte[] data;
+
+        /**
+         * How many bytes to compress.
+         */
+        private final int length;
+
+        /**
+         * Ctor.
+         * @param buf The data
+         * @param len How many bytes to compress
+         */
+        Member(final byte[] buf, final int len) {
+            this.data = buf;
+            this.length = len;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(
+                this.length / 2 + 64
+            );
+            try (GZIPOutputStream gzip = new GZIPOutputStream(baos, 8 << 10)) {
+                gzip.write(this.data, 0, this.length);
+            }
+            return baos.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader that replaces all occurrences of a literal string, on the fly.
+ *
+ * <p>It is a streaming counterpart of {@link org.cactoos.text.Replaced}
+ * for literal (not regular expression) search: the text is never kept
+ * in memory, only a part of it as long as the needle. Occurrences are
+ * replaced from left to right and never overlap, like in
+ * {@link String#replace(CharSequence, CharSequence)}.</p>
+ *
+ * <pre> new Copied(
+ *   new ReplacedReader(new ReaderOf(new File("big.txt")), "\r\n", "\n"),
+ *   new WriterTo(new File("unix.txt"))
+ * ).value();</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ReplacedReader extends Reader {
+
+    /**
+     * The original reader.
+     */
+    private final Reader origin;
+
+    /**
+     * What to search for.
+     */
+    private final Needle needle;
+
+    /**
+     * What to replace it with.
+     */
+    private final String replacement;
+
+    /**
+     * Chars read from the original reader.
+     */
+    private final char[] buffer;
+
+    /**
+     * Chars ready to be read.
+     */
+    private final StringBuilder out;
+
+    /**
+     * How many chars of {@link #out} are read already.
+     */
+    private int taken;
+
+    /**
+     * Length of the needle prefix matched so far.
+     */
+    private int state;
+
+    /**
+     * Is the original reader over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param reader The original reader
+     * @param find What to search for
+     * @param replace What to replace it with
+     */
+    public ReplacedReader(final Reader reader, final CharSequence find,
+        final CharSequence replace) {
+        super();
+        this.origin = reader;
+        this.needle = new Needle(find);
+        this.replacement = replace.toString();
+        this.buffer = new char[8 << 10];
+        this.out = new StringBuilder(8 << 10);
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int offset, final int length)
+        throws IOException {
+        while (length > 0 && this.taken == this.out.length() && !this.over) {
+            this.fill();
+        }
+        final int done;
+        if (length == 0) {
+            done = 0;
+        } else if (this.taken == this.out.length()) {
+            done = -1;
+        } else {
+            done = Math.min(length, this.out.length() - this.taken);
+            this.out.getChars(this.taken, this.taken + done, cbuf, offset);
+            this.taken += done;
+            if (this.taken == this.out.length()) {
+                this.out.setLength(0);
+                this.taken = 0;
+            }
+        }
+        return done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Read the next portion of the original reader.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        final int len = this.origin.read(this.buffer);
+        if (len < 0) {
+            this.over = true;
+            for (int idx = 0; idx < this.state; ++idx) {
+                this.out.append(this.needle.charAt(idx));
+            }
+            this.state = 0;
+        }
+        for (int pos = 0; pos < len; ++pos) {
+            final char chr = this.buffer[pos];
+            final int next = this.needle.next(this.state, chr);
+            for (int idx = 0; idx < this.state + 1 - next; ++idx) {
+                if (idx < this.state) {
+                    this.out.append(this.needle.charAt(idx));
+                } else {
+                    this.out.append(chr);
+                }
+            }
+            if (next == this.needle.length()) {
+                this.out.append(this.replacement);
+                this.state = 0;
+            } else {
+                this.state = next;
+            }
+        }
+    }
+}
@@ -53,6 +53,11 @@ public final class TailOf implements Input {
      */
     private final int max;
 
+    /**
+     * Pool of buffers.
+     */
+    private final BufferPool pool;
+
     /**
      * Constructor.
      * @param inpt Input to decorate
@@ -69,9 +74,23 @@ public final class TailOf implements Input {
      * @param maximum Maximum number of bytes to read at once
      */
     public TailOf(final Input inpt, final int bytes, final int maximum) {
+        this(inpt, bytes, maximum, new ThreadLocalBufferPool());
+    }
+
+    /**
+     * Constructor.
+     * @param inpt Input to decorate
+     * @param bytes Number of last bytes to show from input
+     * @param maximum Maximum number of bytes to read at once
+     * @param buffers Pool of buffers
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public TailOf(final Input inpt, final int bytes, final int maximum,
+        final BufferPool buffers) {
         this.input = inpt;
         this.count = bytes;
         this.max = maximum;
+        this.pool = buffers;
     }
 
     @Override
@@ -84,16 +103,21 @@ public final class TailOf implements Input {
                 ).asString()
             );
         }
-        final byte[] buffer = new byte[this.max];
+        final byte[] buffer = this.pool.take(this.max);
         final byte[] response = new byte[this.count];
         int num = 0;
-        final InputStream strm = this.input.stream();
-        for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
-            if (read < this.max && read < this.count) {
-                num = this.copyPartial(buffer, response, num, read);
-            } else {
-                num = this.copy(buffer, response, read);
+        try {
+            final InputStream strm = this.input.stream();
+            for (int read = strm.read(buffer, 0, this.max); read > 0;
+                read = strm.read(buffer, 0, this.max)) {
+                if (read < this.max && read < this.count) {
+                    num = this.copyPartial(buffer, response, num, read);
+                } else {
+                    num = this.copy(buffer, response, read);
+                }
             }
+        } finally {
+            this.pool.release(buffer);
         }
         return new ByteArrayInputStream(response, 0, num);
     }
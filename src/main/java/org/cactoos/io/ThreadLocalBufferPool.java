@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of byte buffers, cached per thread.
+ *
+ * <p>Buffers are kept in size classes, which are powers of two from
+ * 4KB to 1MB; a request is rounded up to the nearest class. Every thread
+ * keeps at most one buffer of each class, so a released buffer is reused
+ * by the next request of the same thread without any synchronization.
+ * Larger buffers are never pooled.</p>
+ *
+ * <p>All instances share the same cache and the same statistics, so it's
+ * cheap to create a new one wherever a pool is needed.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class ThreadLocalBufferPool implements BufferPool {
+
+    /**
+     * The smallest size class, as a power of two.
+     */
+    private static final int MIN_CLASS = 12;
+
+    /**
+     * The largest size class, as a power of two.
+     */
+    private static final int MAX_CLASS = 20;
+
+    /**
+     * Buffers of the current thread, by size class.
+     */
+    private static final ThreadLocal<byte[][]> CACHE = ThreadLocal.withInitial(
+        () -> new byte[ThreadLocalBufferPool.MAX_CLASS + 1][]
+    );
+
+    /**
+     * Requests served from the cache.
+     */
+    private static final LongAdder HITS = new LongAdder();
+
+    /**
+     * Requests that allocated a new buffer.
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    @Override
+    public byte[] take(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                String.format("Buffer size can't be negative: %d", size)
+            );
+        }
+        final int cls = ThreadLocalBufferPool.sizeClass(size);
+        final byte[] buffer;
+        if (cls > ThreadLocalBufferPool.MAX_CLASS) {
+            ThreadLocalBufferPool.MISSES.increment();
+            buffer = new byte[size];
+        } else {
+            final byte[][] cache = ThreadLocalBufferPool.CACHE.get();
+            if (cache[cls] == null) {
+                ThreadLocalBufferPool.MISSES.increment();
+                buffer = new byte[1 << cls];
+            } else {
+                ThreadLocalBufferPool.HITS.increment();
+                buffer = cache[cls];
+                cache[cls] = null;
+            }
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        final int cls = ThreadLocalBufferPool.sizeClass(buffer.length);
+        if (cls <= ThreadLocalBufferPool.MAX_CLASS
+            && buffer.length == 1 << cls) {
+            ThreadLocalBufferPool.CACHE.get()[cls] = buffer;
+        }
+    }
+
+    /**
+     * How many requests were served from the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return ThreadLocalBufferPool.HITS.sum();
+    }
+
+    /**
+     * How many requests allocated a new buffer.
+     * @return Number of misses
+     */
+    public long misses() {
+        return ThreadLocalBufferPool.MISSES.sum();
+    }
+
+    /**
+     * Size class of the buffer.
+     * @param size Size of the buffer
+     * @return Power of two, not smaller than the smallest class
+     */
+    private static int sizeClass(final int size) {
+        return Math.max(
+            ThreadLocalBufferPool.MIN_CLASS,
+            Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1)
+        );
+    }
+}
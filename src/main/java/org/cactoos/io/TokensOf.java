@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+
+/**
+ * Tokens of a stream of chars, separated by a literal delimiter.
+ *
+ * <p>It is a streaming counterpart of {@link org.cactoos.text.Split}
+ * for literal (not regular expression) delimiters: tokens are read one
+ * by one, only the current token is kept in memory. Just like
+ * {@link String#split(String)}, it drops trailing empty tokens:</p>
+ *
+ * <pre> for (final Text line : new TokensOf(new InputOf(file), "\n")) {
+ *   // process the line
+ * }</pre>
+ *
+ * <p>Every iterator made of an {@link Input} reads it from the
+ * beginning, while all iterators made of a {@link Reader} share it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class TokensOf extends IterableEnvelope<Text> {
+
+    /**
+     * Ctor.
+     * @param input The input, in UTF-8
+     * @param delimiter The delimiter
+     */
+    public TokensOf(final Input input, final CharSequence delimiter) {
+        this(() -> new ReaderOf(input), delimiter);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param delimiter The delimiter
+     */
+    public TokensOf(final Reader reader, final CharSequence delimiter) {
+        this(() -> reader, delimiter);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param delimiter The delimiter
+     */
+    private TokensOf(final Scalar<? extends Reader> reader,
+        final CharSequence delimiter) {
+        super(
+            new IterableOf<>(
+                () -> new TokensOf.Tokens(
+                    new Unchecked<>(reader).value(), new Needle(delimiter)
+                )
+            )
+        );
+    }
+
+    /**
+     * Iterator of tokens.
+     * @since 1.0
+     */
+    private static final class Tokens implements Iterator<Text> {
+
+        /**
+         * The reader.
+         */
+        private final Reader reader;
+
+        /**
+         * The delimiter.
+         */
+        private final Needle needle;
+
+        /**
+         * Chars read from the reader.
+         */
+        private final char[] buffer;
+
+        /**
+         * The token being read.
+         */
+        private final StringBuilder token;
+
+        /**
+         * Tokens ready to be returned.
+         */
+        private final Queue<String> ready;
+
+        /**
+         * Empty tokens, which may turn out to be trailing.
+         */
+        private int empty;
+
+        /**
+         * Length of the delimiter prefix matched so far.
+         */
+        private int state;
+
+        /**
+         * Was the delimiter found at least once?
+         */
+        private boolean found;
+
+        /**
+         * Is the reader over?
+         */
+        private boolean over;
+
+        /**
+         * Ctor.
+         * @param rdr The reader
+         * @param ndl The delimiter
+         */
+        Tokens(final Reader rdr, final Needle ndl) {
+            this.reader = rdr;
+            this.needle = ndl;
+            this.buffer = new char[8 << 10];
+            this.token = new StringBuilder();
+            this.ready = new LinkedList<>();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.ready.isEmpty() && !this.over) {
+                try {
+                    this.fill();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            return !this.ready.isEmpty();
+        }
+
+        @Override
+        public Text next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "There are no more tokens"
+                );
+            }
+            return new TextOf(this.ready.poll());
+        }
+
+        /**
+         * Read the next portion of the reader.
+         * @throws IOException If fails
+         */
+        private void fill() throws IOException {
+            final int len = this.reader.read(this.buffer);
+            if (len < 0) {
+                this.over = true;
+                for (int idx = 0; idx < this.state; ++idx) {
+                    this.token.append(this.needle.charAt(idx));
+                }
+                if (this.token.length() > 0 || !this.found) {
+                    this.complete();
+                }
+                this.reader.close();
+            }
+            for (int pos = 0; pos < len; ++pos) {
+                final char chr = this.buffer[pos];
+                final int next = this.needle.next(this.state, chr);
+                for (int idx = 0; idx < this.state + 1 - next; ++idx) {
+                    if (idx < this.state) {
+                        this.token.append(this.needle.charAt(idx));
+                    } else {
+                        this.token.append(chr);
+                    }
+                }
+                if (next == this.needle.length()) {
+                    this.found = true;
+                    if (this.token.length() == 0) {
+                        this.empty += 1;
+                    } else {
+                        this.complete();
+                    }
+                    this.state = 0;
+                } else {
+                    this.state = next;
+                }
+            }
+        }
+
+        /**
+         * Make the current token, and empty ones before it, ready.
+         */
+        private void complete() {
+            for (; this.empty > 0; --this.empty) {
+                this.ready.add("");
+            }
+            this.ready.add(this.token.toString());
+            this.token.setLength(0);
+        }
+    }
+}
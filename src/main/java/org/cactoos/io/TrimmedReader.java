@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader without leading and trailing whitespace, on the fly.
+ *
+ * <p>It is a streaming counterpart of {@link org.cactoos.text.Trimmed}:
+ * just like {@link String#trim()}, it drops all chars up to the space
+ * ({@code ' '}) at both ends. Only a run of such chars is kept in
+ * memory, until it turns out not to be trailing.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class TrimmedReader extends Reader {
+
+    /**
+     * The original reader.
+     */
+    private final Reader origin;
+
+    /**
+     * Chars read from the original reader.
+     */
+    private final char[] buffer;
+
+    /**
+     * Chars ready to be read.
+     */
+    private final StringBuilder out;
+
+    /**
+     * Whitespace, which may turn out to be trailing.
+     */
+    private final StringBuilder spaces;
+
+    /**
+     * How many chars of {@link #out} are read already.
+     */
+    private int taken;
+
+    /**
+     * Was anything but whitespace found?
+     */
+    private boolean started;
+
+    /**
+     * Is the original reader over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param reader The original reader
+     */
+    public TrimmedReader(final Reader reader) {
+        super();
+        this.origin = reader;
+        this.buffer = new char[8 << 10];
+        this.out = new StringBuilder(8 << 10);
+        this.spaces = new StringBuilder();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int offset, final int length)
+        throws IOException {
+        while (length > 0 && this.taken == this.out.length() && !this.over) {
+            this.fill();
+        }
+        final int done;
+        if (length == 0) {
+            done = 0;
+        } else if (this.taken == this.out.length()) {
+            done = -1;
+        } else {
+            done = Math.min(length, this.out.length() - this.taken);
+            this.out.getChars(this.taken, this.taken + done, cbuf, offset);
+            this.taken += done;
+            if (this.taken == this.out.length()) {
+                this.out.setLength(0);
+                this.taken = 0;
+            }
+        }
+        return done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Read the next portion of the original reader.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        final int len = this.origin.read(this.buffer);
+        if (len < 0) {
+            this.over = true;
+        }
+        for (int pos = 0; pos < len; ++pos) {
+            final char chr = this.buffer[pos];
+            if (chr <= ' ') {
+                if (this.started) {
+                    this.spaces.append(chr);
+                }
+            } else {
+                this.started = true;
+                this.out.append(this.spaces).append(chr);
+                this.spaces.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Output;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * A {@link WritableByteChannel} that writes to an {@link Output}.
+ *
+ * <p>The stream of the output is opened on the first write, not
+ * to check whether the channel is open or to close it. If it is a
+ * {@link java.io.FileOutputStream}, like in {@link OutputTo} made of a
+ * file, its own {@link java.nio.channels.FileChannel} is used, without
+ * any intermediate buffers.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class WritableChannelTo implements WritableByteChannel {
+
+    /**
+     * The channel.
+     */
+    private final IoChecked<WritableByteChannel> channel;
+
+    /**
+     * Was the channel opened?
+     */
+    private final AtomicBoolean opened;
+
+    /**
+     * Was it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public WritableChannelTo(final Output output) {
+        this(output, new AtomicBoolean());
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param flag Flag to set, when the channel is opened
+     */
+    private WritableChannelTo(final Output output, final AtomicBoolean flag) {
+        this.channel = new IoChecked<>(
+            new Sticky<>(
+                () -> {
+                    flag.set(true);
+                    return Channels.newChannel(output.stream());
+                }
+            )
+        );
+        this.opened = flag;
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        if (this.closed.get()) {
+            throw new ClosedChannelException();
+        }
+        return this.channel.value().write(src);
+    }
+
+    @Override
+    public boolean isOpen() {
+        boolean open = !this.closed.get();
+        if (open && this.opened.get()) {
+            try {
+                open = this.channel.value().isOpen();
+            } catch (final IOException ex) {
+                open = false;
+            }
+        }
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed.set(true);
+        if (this.opened.get()) {
+            this.channel.value().close();
+        }
+    }
+}
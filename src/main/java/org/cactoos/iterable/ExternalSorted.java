@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Sorted iterable, which doesn't keep all items in memory.
+ *
+ * <p>It may be used instead of {@link Sorted} when items don't fit into
+ * memory. At most the given budget of items is sorted in memory, and
+ * sorted runs are spilled to temporary files and merged lazily, see
+ * {@link org.cactoos.iterator.ExternalSorted}:</p>
+ *
+ * <pre>{@code
+ * final Iterable<String> sorted = new ExternalSorted<>(
+ *     Comparator.naturalOrder(),
+ *     1_000_000,
+ *     line -> new BytesOf(line, StandardCharsets.UTF_8),
+ *     bytes -> new String(bytes.asBytes(), StandardCharsets.UTF_8),
+ *     lines
+ * );
+ * }</pre>
+ *
+ * <p>The source is read and sorted again on each iteration.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+public final class ExternalSorted<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param budget Maximum number of items kept in memory
+     * @param encoder Encoding of an item to bytes
+     * @param decoder Decoding of an item from bytes
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExternalSorted(final Comparator<? super T> cmp, final int budget,
+        final Func<? super T, ? extends Bytes> encoder,
+        final Func<? super Bytes, ? extends T> decoder,
+        final Iterable<? extends T> src) {
+        this(
+            () -> Paths.get(System.getProperty("java.io.tmpdir")),
+            cmp, budget, encoder, decoder, src
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory for temporary files
+     * @param cmp The comparator
+     * @param budget Maximum number of items kept in memory
+     * @param encoder Encoding of an item to bytes
+     * @param decoder Decoding of an item from bytes
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExternalSorted(final Scalar<Path> dir,
+        final Comparator<? super T> cmp, final int budget,
+        final Func<? super T, ? extends Bytes> encoder,
+        final Func<? super Bytes, ? extends T> decoder,
+        final Iterable<? extends T> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.ExternalSorted<>(
+                    dir, cmp, budget, encoder, decoder, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -68,7 +68,10 @@ public final class Filtered<X> extends IterableEnvelope<X> {
     public Filtered(final Func<? super X, Boolean> fnc, final Iterable<? extends X> src) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Filtered<>(fnc, src.iterator())
+                () -> new org.cactoos.iterator.Filtered<>(fnc, src.iterator()),
+                () -> new FilteredSpliterator<>(
+                    input -> () -> fnc.apply(input), src.spliterator()
+                )
             )
         );
     }
@@ -84,7 +87,8 @@ public final class Filtered<X> extends IterableEnvelope<X> {
                 () -> new org.cactoos.iterator.Filtered<>(
                     src.iterator(),
                     fnc
-                )
+                ),
+                () -> new FilteredSpliterator<>(fnc, src.spliterator())
             )
         );
     }
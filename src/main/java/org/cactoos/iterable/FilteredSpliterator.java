@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Spliterator that filters items of another one, and splits as it does.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 1.0
+ */
+final class FilteredSpliterator<X> implements Spliterator<X> {
+
+    /**
+     * Predicate.
+     */
+    private final UncheckedFunc<? super X, Scalar<Boolean>> func;
+
+    /**
+     * Source spliterator.
+     */
+    private final Spliterator<? extends X> origin;
+
+    /**
+     * Was an item found by the last advance?
+     */
+    private boolean found;
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source spliterator
+     */
+    FilteredSpliterator(final Func<? super X, Scalar<Boolean>> fnc,
+        final Spliterator<? extends X> src) {
+        this(new UncheckedFunc<>(fnc), src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source spliterator
+     */
+    private FilteredSpliterator(
+        final UncheckedFunc<? super X, Scalar<Boolean>> fnc,
+        final Spliterator<? extends X> src) {
+        this.func = fnc;
+        this.origin = src;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super X> action) {
+        this.found = false;
+        boolean more = true;
+        while (more && !this.found) {
+            more = this.origin.tryAdvance(
+                item -> {
+                    if (this.matches(item)) {
+                        this.found = true;
+                        action.accept(item);
+                    }
+                }
+            );
+        }
+        return this.found;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super X> action) {
+        this.origin.forEachRemaining(
+            item -> {
+                if (this.matches(item)) {
+                    action.accept(item);
+                }
+            }
+        );
+    }
+
+    @Override
+    public Spliterator<X> trySplit() {
+        final Spliterator<? extends X> prefix = this.origin.trySplit();
+        Spliterator<X> split = null;
+        if (prefix != null) {
+            split = new FilteredSpliterator<>(this.func, prefix);
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics()
+            & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<? super X> getComparator() {
+        return (Comparator<? super X>) this.origin.getComparator();
+    }
+
+    /**
+     * Does this item match the predicate?
+     * @param item The item
+     * @return TRUE if it does
+     */
+    private boolean matches(final X item) {
+        return new Unchecked<>(this.func.apply(item)).value();
+    }
+}
@@ -24,7 +24,10 @@
 package org.cactoos.iterable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.Fallback;
 import org.cactoos.Scalar;
 import org.cactoos.iterator.IteratorOf;
@@ -51,13 +54,18 @@ public final class IterableOf<X> implements Iterable<X> {
      */
     private final Scalar<? extends Iterator<? extends X>> itr;
 
+    /**
+     * The encapsulated spliterator.
+     */
+    private final Scalar<? extends Spliterator<? extends X>> split;
+
     /**
      * Ctor.
      * @param items The array
      */
     @SafeVarargs
     public IterableOf(final X... items) {
-        this(() -> new IteratorOf<>(items));
+        this(() -> new IteratorOf<>(items), () -> Arrays.spliterator(items));
     }
 
     /**
@@ -74,7 +82,27 @@ public final class IterableOf<X> implements Iterable<X> {
      * @param sclr The encapsulated iterator of x
      */
     public IterableOf(final Scalar<? extends Iterator<? extends X>> sclr) {
+        this(
+            sclr,
+            () -> Spliterators.spliteratorUnknownSize(
+                new Unchecked<>(sclr).value(), 0
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Decorators use it to keep the spliterator of their source, so that
+     * parallel streams and reductions can split it well.</p>
+     *
+     * @param sclr The encapsulated iterator of x
+     * @param spltr The encapsulated spliterator of x
+     */
+    IterableOf(final Scalar<? extends Iterator<? extends X>> sclr,
+        final Scalar<? extends Spliterator<? extends X>> spltr) {
         this.itr = sclr;
+        this.split = spltr;
     }
 
     @SuppressWarnings("unchecked")
@@ -83,6 +111,12 @@ public final class IterableOf<X> implements Iterable<X> {
         return (Iterator<X>) new Unchecked<>(this.itr).value();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Spliterator<X> spliterator() {
+        return (Spliterator<X>) new Unchecked<>(this.split).value();
+    }
+
     @Override
     @SuppressFBWarnings("EQ_UNUSUAL")
     @SuppressWarnings (value = "unchecked")
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Spliterator that maps items of another one, and splits as it does.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+final class MappedSpliterator<X, Y> implements Spliterator<Y> {
+
+    /**
+     * Function.
+     */
+    private final UncheckedFunc<? super X, ? extends Y> func;
+
+    /**
+     * Source spliterator.
+     */
+    private final Spliterator<? extends X> origin;
+
+    /**
+     * Ctor.
+     * @param fnc Function
+     * @param src Source spliterator
+     */
+    MappedSpliterator(final Func<? super X, ? extends Y> fnc,
+        final Spliterator<? extends X> src) {
+        this(new UncheckedFunc<>(fnc), src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Function
+     * @param src Source spliterator
+     */
+    private MappedSpliterator(final UncheckedFunc<? super X, ? extends Y> fnc,
+        final Spliterator<? extends X> src) {
+        this.func = fnc;
+        this.origin = src;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Y> action) {
+        return this.origin.tryAdvance(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Y> action) {
+        this.origin.forEachRemaining(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public Spliterator<Y> trySplit() {
+        final Spliterator<? extends X> prefix = this.origin.trySplit();
+        Spliterator<Y> split = null;
+        if (prefix != null) {
+            split = new MappedSpliterator<>(this.func, prefix);
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics()
+            & ~(Spliterator.DISTINCT | Spliterator.SORTED
+            | Spliterator.NONNULL);
+    }
+}
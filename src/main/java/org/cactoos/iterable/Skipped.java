@@ -23,9 +23,14 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Skipped iterable.
  *
+ * <p>Lists are not iterated over skipped items.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -51,10 +56,23 @@ public final class Skipped<T> extends IterableEnvelope<T> {
     public Skipped(final int skip, final Iterable<? extends T> iterable) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Skipped<>(
-                    skip,
-                    iterable.iterator()
-                )
+                () -> {
+                    final Iterator<? extends T> iter;
+                    if (iterable instanceof List) {
+                        final List<? extends T> list =
+                            (List<? extends T>) iterable;
+                        iter = list.subList(
+                            Math.min(Math.max(0, skip), list.size()),
+                            list.size()
+                        ).iterator();
+                    } else {
+                        iter = new org.cactoos.iterator.Skipped<>(
+                            skip,
+                            iterable.iterator()
+                        );
+                    }
+                    return iter;
+                }
             )
         );
     }
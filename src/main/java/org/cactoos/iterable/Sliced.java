@@ -23,9 +23,15 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Sliced portion of the iterable.
  *
+ * <p>Slices of lists are their sublists, so that items before the slice
+ * are not iterated.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -54,10 +60,32 @@ public final class Sliced<T> extends IterableEnvelope<T>  {
         final Iterable<? extends T> iterable) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Sliced<>(
-                    start,
-                    count,
-                    iterable.iterator()
+                () -> {
+                    final Iterator<? extends T> iter;
+                    if (iterable instanceof List) {
+                        final List<? extends T> list =
+                            (List<? extends T>) iterable;
+                        final int first = Math.min(
+                            Math.max(0, start), list.size()
+                        );
+                        iter = list.subList(
+                            first,
+                            (int) Math.max(
+                                first,
+                                Math.min((long) start + count, list.size())
+                            )
+                        ).iterator();
+                    } else {
+                        iter = new org.cactoos.iterator.Sliced<>(
+                            start,
+                            count,
+                            iterable.iterator()
+                        );
+                    }
+                    return iter;
+                },
+                () -> new SlicedSpliterator<>(
+                    iterable.spliterator(), start, count
                 )
             )
         );
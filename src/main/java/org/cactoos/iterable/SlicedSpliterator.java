@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a slice of another one.
+ *
+ * <p>It splits only if the source knows exact sizes of its parts, that is
+ * if it's {@link Spliterator#SUBSIZED}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @since 1.0
+ */
+final class SlicedSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Source spliterator.
+     */
+    private final Spliterator<? extends T> origin;
+
+    /**
+     * Index of the first item of the slice in the source.
+     */
+    private final long start;
+
+    /**
+     * Index of the item after the slice in the source.
+     */
+    private final long end;
+
+    /**
+     * Index of the next item of the source spliterator.
+     */
+    private long position;
+
+    /**
+     * Was an item taken by the last advance?
+     */
+    private boolean taken;
+
+    /**
+     * Ctor.
+     * @param src Source spliterator
+     * @param first Index of the first item of the slice
+     * @param count Maximum number of items in the slice
+     */
+    SlicedSpliterator(final Spliterator<? extends T> src, final int first,
+        final int count) {
+        this(src, 0L, first, (long) first + count);
+    }
+
+    /**
+     * Ctor.
+     * @param src Source spliterator
+     * @param pos Index of the next item of the source spliterator
+     * @param first Index of the first item of the slice
+     * @param after Index of the item after the slice
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private SlicedSpliterator(final Spliterator<? extends T> src,
+        final long pos, final long first, final long after) {
+        this.origin = src;
+        this.position = pos;
+        this.start = first;
+        this.end = after;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        this.taken = false;
+        boolean more = true;
+        while (more && !this.taken) {
+            more = this.position < this.end && this.origin.tryAdvance(
+                item -> {
+                    if (this.position >= this.start) {
+                        this.taken = true;
+                        action.accept(item);
+                    }
+                    ++this.position;
+                }
+            );
+        }
+        return this.taken;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> split = null;
+        if (this.origin.hasCharacteristics(Spliterator.SUBSIZED)
+            && this.position < this.end) {
+            final Spliterator<? extends T> prefix = this.origin.trySplit();
+            if (prefix != null) {
+                split = new SlicedSpliterator<>(
+                    prefix, this.position, this.start, this.end
+                );
+                this.position += prefix.getExactSizeIfKnown();
+            }
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = this.origin.estimateSize();
+        final long first = Math.max(this.start, this.position);
+        final long last;
+        if (size > this.end - this.position) {
+            last = this.end;
+        } else {
+            last = this.position + size;
+        }
+        return Math.max(0L, last - first);
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<? super T> getComparator() {
+        return (Comparator<? super T>) this.origin.getComparator();
+    }
+}
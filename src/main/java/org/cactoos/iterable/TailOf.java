@@ -23,9 +23,14 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Tail portion of the iterable.
  *
+ * <p>Tails of lists are their sublists, found without iterating.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -51,9 +56,24 @@ public final class TailOf<T> extends IterableEnvelope<T>  {
     public TailOf(final int num, final Iterable<? extends T> iterable) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.TailOf<>(
-                    num, iterable.iterator()
-                )
+                () -> {
+                    final Iterator<? extends T> iter;
+                    if (iterable instanceof List) {
+                        final List<? extends T> list =
+                            (List<? extends T>) iterable;
+                        iter = list.subList(
+                            list.size() - Math.min(
+                                Math.max(0, num), list.size()
+                            ),
+                            list.size()
+                        ).iterator();
+                    } else {
+                        iter = new org.cactoos.iterator.TailOf<>(
+                            num, iterable.iterator()
+                        );
+                    }
+                    return iter;
+                }
             )
         );
     }
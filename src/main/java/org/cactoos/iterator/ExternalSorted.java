@@ -0,0 +1,452 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted iterator, which doesn't keep all items in memory.
+ *
+ * <p>Items are read in chunks of at most the given budget, each chunk is
+ * sorted in memory and spilled to a {@link TempFile} as a sorted run,
+ * through the encoding function. Runs are then merged lazily, while
+ * items are taken from the iterator. If there are too many runs to be
+ * merged at once, they are first merged into larger runs. If all items
+ * fit into the budget, no files are created at all.</p>
+ *
+ * <p>The sort is stable, like {@link Sorted}. Run files are deleted as
+ * soon as they are read to the end, or if they can't be written. If the
+ * iteration is abandoned, its run files stay in the directory.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+public final class ExternalSorted<T> implements Iterator<T> {
+
+    /**
+     * How many runs are merged at once.
+     */
+    private static final int FAN_IN = 64;
+
+    /**
+     * Size of file buffers.
+     */
+    private static final int BUFFER = 64 << 10;
+
+    /**
+     * Directory for run files.
+     */
+    private final Scalar<Path> dir;
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Maximum number of items kept in memory.
+     */
+    private final int budget;
+
+    /**
+     * Encoding of an item to bytes.
+     */
+    private final Func<? super T, ? extends Bytes> encoder;
+
+    /**
+     * Decoding of an item from bytes.
+     */
+    private final UncheckedFunc<? super Bytes, ? extends T> decoder;
+
+    /**
+     * Sorted one.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param budget Maximum number of items kept in memory
+     * @param encoder Encoding of an item to bytes
+     * @param decoder Decoding of an item from bytes
+     * @param iterator The underlying iterator
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExternalSorted(final Comparator<? super T> comparator,
+        final int budget, final Func<? super T, ? extends Bytes> encoder,
+        final Func<? super Bytes, ? extends T> decoder,
+        final Iterator<? extends T> iterator) {
+        this(
+            () -> Paths.get(System.getProperty("java.io.tmpdir")),
+            comparator, budget, encoder, decoder, iterator
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory for run files
+     * @param comparator The comparator
+     * @param budget Maximum number of items kept in memory
+     * @param encoder Encoding of an item to bytes
+     * @param decoder Decoding of an item from bytes
+     * @param iterator The underlying iterator
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExternalSorted(final Scalar<Path> dir,
+        final Comparator<? super T> comparator, final int budget,
+        final Func<? super T, ? extends Bytes> encoder,
+        final Func<? super Bytes, ? extends T> decoder,
+        final Iterator<? extends T> iterator) {
+        if (budget < 1) {
+            throw new IllegalArgumentException(
+                String.format("Budget must be positive: %d", budget)
+            );
+        }
+        this.dir = dir;
+        this.comparator = comparator;
+        this.budget = budget;
+        this.encoder = encoder;
+        this.decoder = new UncheckedFunc<>(decoder);
+        this.scalar = new Unchecked<>(
+            new Sticky<>(() -> this.sorted(iterator))
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+
+    /**
+     * Sort items, spilling them to files if needed.
+     * @param iterator The items
+     * @return Sorted items
+     * @throws Exception If fails
+     */
+    private Iterator<T> sorted(final Iterator<? extends T> iterator)
+        throws Exception {
+        final List<T> chunk = new ArrayList<>(Math.min(this.budget, 1024));
+        List<TempFile> files = new ArrayList<>(0);
+        Iterator<T> sorted = null;
+        while (sorted == null) {
+            chunk.clear();
+            while (chunk.size() < this.budget && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
+            chunk.sort(this.comparator);
+            if (files.isEmpty() && !iterator.hasNext()) {
+                sorted = chunk.iterator();
+            } else {
+                if (!chunk.isEmpty()) {
+                    files.add(this.spilled(chunk.iterator(), chunk.size()));
+                }
+                if (!iterator.hasNext()) {
+                    while (files.size() > ExternalSorted.FAN_IN) {
+                        files = this.merged(files);
+                    }
+                    sorted = new ExternalSorted.Merge<>(
+                        this.comparator, this.runs(files)
+                    );
+                }
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Merge groups of run files into larger runs.
+     * @param files Run files
+     * @return Larger run files
+     * @throws Exception If fails
+     */
+    private List<TempFile> merged(final List<TempFile> files)
+        throws Exception {
+        final List<TempFile> larger = new ArrayList<>(0);
+        for (int idx = 0; idx < files.size(); idx += ExternalSorted.FAN_IN) {
+            final List<ExternalSorted.Run<T>> group = this.runs(
+                files.subList(
+                    idx, Math.min(files.size(), idx + ExternalSorted.FAN_IN)
+                )
+            );
+            long count = 0L;
+            for (final ExternalSorted.Run<T> run : group) {
+                count += run.total;
+            }
+            larger.add(
+                this.spilled(
+                    new ExternalSorted.Merge<>(this.comparator, group), count
+                )
+            );
+        }
+        return larger;
+    }
+
+    /**
+     * Open run files.
+     *
+     * <p>If any of them fails to open, all of them are closed and
+     * deleted.</p>
+     * @param files Run files
+     * @return Runs, in the order of files
+     * @throws IOException If fails
+     */
+    private List<ExternalSorted.Run<T>> runs(final List<TempFile> files)
+        throws IOException {
+        final List<ExternalSorted.Run<T>> runs = new ArrayList<>(files.size());
+        try {
+            for (final TempFile file : files) {
+                runs.add(
+                    new ExternalSorted.Run<>(file, this.decoder, runs.size())
+                );
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            for (final ExternalSorted.Run<T> run : runs) {
+                run.close();
+            }
+            for (int idx = runs.size(); idx < files.size(); ++idx) {
+                files.get(idx).close();
+            }
+            throw ex;
+        }
+        return runs;
+    }
+
+    /**
+     * Write sorted items to a new run file.
+     * @param items Sorted items
+     * @param count How many items
+     * @return The run file
+     * @throws Exception If fails
+     */
+    private TempFile spilled(final Iterator<? extends T> items,
+        final long count) throws Exception {
+        final TempFile file = new TempFile(this.dir, "cactoos-sort", ".run");
+        final Path path = file.value();
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(
+                Files.newOutputStream(path), ExternalSorted.BUFFER
+            )
+        )) {
+            out.writeLong(count);
+            while (items.hasNext()) {
+                final byte[] bytes = this.encoder.apply(items.next())
+                    .asBytes();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            file.close();
+            throw ex;
+        }
+        return file;
+    }
+
+    /**
+     * Lazy merge of sorted runs.
+     * @param <T> Element type
+     * @since 1.0
+     */
+    private static final class Merge<T> implements Iterator<T> {
+
+        /**
+         * Runs ordered by their next items.
+         */
+        private final PriorityQueue<ExternalSorted.Run<T>> queue;
+
+        /**
+         * Ctor.
+         * @param cmp The comparator
+         * @param runs Runs to merge
+         */
+        Merge(final Comparator<? super T> cmp,
+            final List<ExternalSorted.Run<T>> runs) {
+            this.queue = new PriorityQueue<>(
+                Math.max(1, runs.size()),
+                Comparator.<ExternalSorted.Run<T>, T>comparing(
+                    run -> run.head, cmp
+                ).thenComparingInt(run -> run.index)
+            );
+            this.queue.addAll(runs);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final ExternalSorted.Run<T> run = this.queue.poll();
+            if (run == null) {
+                throw new NoSuchElementException(
+                    "There are no more sorted items"
+                );
+            }
+            final T item = run.head;
+            try {
+                if (run.advance()) {
+                    this.queue.add(run);
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return item;
+        }
+    }
+
+    /**
+     * Sorted run, read from a file.
+     * @param <T> Element type
+     * @since 1.0
+     */
+    private static final class Run<T> {
+
+        /**
+         * The file.
+         */
+        private final TempFile file;
+
+        /**
+         * The stream.
+         */
+        private final DataInputStream stream;
+
+        /**
+         * Decoding of an item.
+         */
+        private final UncheckedFunc<? super Bytes, ? extends T> decoder;
+
+        /**
+         * Position of the run among merged ones.
+         */
+        private final int index;
+
+        /**
+         * How many items are in the run.
+         */
+        private final long total;
+
+        /**
+         * How many items are not read yet.
+         */
+        private long remaining;
+
+        /**
+         * The current item.
+         */
+        private T head;
+
+        /**
+         * Ctor.
+         * @param file The file
+         * @param decoder Decoding of an item
+         * @param index Position of the run among merged ones
+         * @throws IOException If fails
+         */
+        Run(final TempFile file,
+            final UncheckedFunc<? super Bytes, ? extends T> decoder,
+            final int index) throws IOException {
+            this.file = file;
+            this.stream = new DataInputStream(
+                new BufferedInputStream(
+                    Files.newInputStream(new Unchecked<>(file).value()),
+                    ExternalSorted.BUFFER
+                )
+            );
+            this.decoder = decoder;
+            this.index = index;
+            try {
+                this.total = this.stream.readLong();
+                this.remaining = this.total;
+                this.advance();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                this.stream.close();
+                throw ex;
+            }
+        }
+
+        /**
+         * Read the next item into the head, or delete the file at the end.
+         * @return TRUE if there is the next item
+         * @throws IOException If fails
+         */
+        boolean advance() throws IOException {
+            final boolean more = this.remaining > 0L;
+            if (more) {
+                final byte[] bytes = new byte[this.stream.readInt()];
+                this.stream.readFully(bytes);
+                this.head = this.decoder.apply(new BytesOf(bytes));
+                --this.remaining;
+            } else {
+                this.head = null;
+                this.close();
+            }
+            return more;
+        }
+
+        /**
+         * Close the stream and delete the file.
+         * @throws IOException If fails
+         */
+        void close() throws IOException {
+            try {
+                this.stream.close();
+            } finally {
+                this.file.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted iterator, which sorts in multiple threads.
+ *
+ * <p>Items are sorted with {@link Arrays#parallelSort}, which is stable,
+ * like {@link Sorted}, and uses the common fork-join pool for large
+ * inputs. Small inputs are sorted sequentially.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+public final class ParallelSorted<T> implements Iterator<T> {
+
+    /**
+     * Sorted one.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param items The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public ParallelSorted(final Iterator<? extends T> items) {
+        this((Comparator<T>) Comparator.naturalOrder(), items);
+    }
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param iterator The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public ParallelSorted(final Comparator<? super T> comparator,
+        final Iterator<? extends T> iterator) {
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    final List<T> items = new ArrayList<>(0);
+                    while (iterator.hasNext()) {
+                        items.add(iterator.next());
+                    }
+                    final T[] array = (T[]) items.toArray();
+                    Arrays.parallelSort(array, comparator);
+                    return Arrays.asList(array).iterator();
+                }
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+}
@@ -68,7 +68,7 @@ public final class Sliced<T> implements Iterator<T> {
      */
     public Sliced(final int start, final int count,
         final Iterator<? extends T> iterator) {
-        this(start, index -> index > start + count - 1, iterator);
+        this(start, index -> index >= (long) start + count, iterator);
     }
 
     /**
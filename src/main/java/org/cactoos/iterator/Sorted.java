@@ -23,9 +23,9 @@
  */
 package org.cactoos.iterator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
@@ -33,6 +33,11 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Sorted iterator.
  *
+ * <p>Items are sorted in an array list. To sort large inputs in
+ * multiple threads, use {@link ParallelSorted}. If only a few first
+ * items are needed, use {@link TopOf}, which doesn't keep all items in
+ * memory.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -68,7 +73,7 @@ public final class Sorted<T> implements Iterator<T> {
         this.scalar = new Unchecked<>(
             new Sticky<>(
                 () -> {
-                    final List<T> items = new LinkedList<>();
+                    final List<T> items = new ArrayList<>(0);
                     while (iterator.hasNext()) {
                         items.add(iterator.next());
                     }
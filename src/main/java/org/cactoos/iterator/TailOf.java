@@ -23,14 +23,15 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Deque;
 import java.util.Iterator;
-import org.cactoos.iterable.HeadOf;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Reversed;
+import java.util.LinkedList;
 
 /**
  * Tail portion of the iterator.
  *
+ * <p>The iterator is read once, keeping only the last elements.</p>
+ *
  * <p>
  * There is no thread-safety guarantee.
  * </p>
@@ -43,17 +44,26 @@ public final class TailOf<T> extends IteratorEnvelope<T> {
      * @param num Number of tail elements
      * @param iterator Decorated iterator
      */
-    @SuppressWarnings({ "unchecked", "cast" })
     public TailOf(final int num, final Iterator<? extends T> iterator) {
-        super(
-            (Iterator<T>) new Reversed<>(
-                new HeadOf<>(
-                    num,
-                    new Reversed<>(
-                        new IterableOf<>(iterator)
-                    )
-                )
-            ).iterator()
-        );
+        super(TailOf.tail(num, iterator));
+    }
+
+    /**
+     * Last elements of the iterator.
+     * @param num Number of tail elements
+     * @param iterator Decorated iterator
+     * @param <T> Element type
+     * @return Iterator over the last elements
+     */
+    private static <T> Iterator<T> tail(final int num,
+        final Iterator<? extends T> iterator) {
+        final Deque<T> tail = new LinkedList<>();
+        while (iterator.hasNext()) {
+            tail.addLast(iterator.next());
+            if (tail.size() > num) {
+                tail.removeFirst();
+            }
+        }
+        return tail.iterator();
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * The first items of the sorted iterator.
+ *
+ * <p>It's the same as {@link HeadOf} of {@link Sorted}, but keeps only
+ * the requested number of items in a bounded heap, so it takes
+ * O(n log k) time and O(k) memory. Equal items stay in their original
+ * order.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+public final class TopOf<T> implements Iterator<T> {
+
+    /**
+     * Sorted top items.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param num How many items to take
+     * @param items The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public TopOf(final int num, final Iterator<? extends T> items) {
+        this(num, (Comparator<T>) Comparator.naturalOrder(), items);
+    }
+
+    /**
+     * Ctor.
+     * @param num How many items to take
+     * @param comparator The comparator
+     * @param iterator The underlying iterator
+     */
+    public TopOf(final int num, final Comparator<? super T> comparator,
+        final Iterator<? extends T> iterator) {
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    final Comparator<Map.Entry<Long, T>> order =
+                        Comparator.<Map.Entry<Long, T>, T>comparing(
+                            Map.Entry::getValue, comparator
+                        ).thenComparing(Map.Entry::getKey);
+                    final PriorityQueue<Map.Entry<Long, T>> heap =
+                        new PriorityQueue<>(
+                            Math.max(1, Math.min(num, 1024)),
+                            order.reversed()
+                        );
+                    long index = 0L;
+                    while (num > 0 && iterator.hasNext()) {
+                        final T item = iterator.next();
+                        if (heap.size() < num) {
+                            heap.add(new MapEntry<>(index, item));
+                        } else if (
+                            comparator.compare(item, heap.peek().getValue()) < 0
+                        ) {
+                            heap.poll();
+                            heap.add(new MapEntry<>(index, item));
+                        }
+                        ++index;
+                    }
+                    final List<Map.Entry<Long, T>> top = new ArrayList<>(heap);
+                    top.sort(order);
+                    final List<T> items = new ArrayList<>(top.size());
+                    for (final Map.Entry<Long, T> entry : top) {
+                        items.add(entry.getValue());
+                    }
+                    return items.iterator();
+                }
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Joined;
+
+/**
+ * Lists concatenated into one, without copying their items.
+ *
+ * <p>Unlike {@link org.cactoos.list.Joined}, which copies all items into
+ * a new list, this is a read-only view: construction costs nothing, and
+ * {@link #get(int)} walks the lists, skipping them by their sizes, until
+ * it finds the one with the index, so it costs O(number of lists). Sizes
+ * are read on every call, so changes of the source lists, including
+ * added and removed items, are visible through the view.</p>
+ *
+ * <p>All modifying methods of {@link List} throw
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @since 1.0
+ */
+public final class Concatenated<X> extends AbstractList<X> {
+
+    /**
+     * Source lists.
+     */
+    private final Iterable<? extends List<? extends X>> lists;
+
+    /**
+     * Ctor.
+     * @param src Source lists
+     */
+    @SafeVarargs
+    public Concatenated(final List<? extends X>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Source lists
+     */
+    public Concatenated(final Iterable<? extends List<? extends X>> src) {
+        super();
+        this.lists = src;
+    }
+
+    @Override
+    public X get(final int index) {
+        if (index < 0) {
+            throw this.outOfBounds(index);
+        }
+        final Iterator<? extends List<? extends X>> iter =
+            this.lists.iterator();
+        List<? extends X> list = Collections.emptyList();
+        int pos = index;
+        while (pos >= list.size()) {
+            pos -= list.size();
+            if (!iter.hasNext()) {
+                throw this.outOfBounds(index);
+            }
+            list = iter.next();
+        }
+        return list.get(pos);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final List<? extends X> list : this.lists) {
+            size += list.size();
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<X> iterator() {
+        return new Joined<X>(this.lists).iterator();
+    }
+
+    /**
+     * Error for a wrong index.
+     * @param index The index
+     * @return The error
+     */
+    private IndexOutOfBoundsException outOfBounds(final int index) {
+        return new IndexOutOfBoundsException(
+            String.format(
+                "Index %d is out of bounds [0, %d)", index, this.size()
+            )
+        );
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Copy-on-write list.
+ *
+ * <p>Items are kept in a {@link CopyOnWriteArrayList}: each modification
+ * copies the array, while readers and iterators work with a snapshot
+ * without any locking. Unlike {@link Synced}, it's meant for lists which
+ * are read much more often than modified, like configuration.</p>
+ *
+ * <p>Objects of this class are thread-safe.</p>
+ *
+ * @param <X> Type of item
+ * @since 1.0
+ */
+public final class Concurrent<X> extends ListEnvelope<X> {
+
+    /**
+     * Ctor.
+     * @param array An array of some elements
+     */
+    @SafeVarargs
+    public Concurrent(final X... array) {
+        this(new IterableOf<>(array));
+    }
+
+    /**
+     * Ctor.
+     * @param src An {@link Iterable}
+     */
+    public Concurrent(final Iterable<? extends X> src) {
+        super(new CopyOnWriteArrayList<>(new ListOf<>(src)));
+    }
+}
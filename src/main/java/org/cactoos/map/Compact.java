@@ -0,0 +1,306 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Immutable map with open addressing.
+ *
+ * <p>Keys and values are stored side by side in one flat array, which is
+ * probed linearly, so there are no per-entry node objects and lookups
+ * touch neighbouring memory. It is meant for large read-mostly lookup
+ * tables built once:</p>
+ *
+ * <pre>{@code
+ * final Map<String, Integer> map = new Compact<>(
+ *     String::toUpperCase, String::length, lines
+ * );
+ * }</pre>
+ *
+ * <p>The table is built once, when the map is used for the first time.
+ * Neither keys nor values may be NULL. If a key is repeated, the last
+ * value wins. All modifying methods of {@link Map} throw
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Objects of this class are immutable and thread-safe.</p>
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 1.0
+ */
+public final class Compact<X, Y> extends AbstractMap<X, Y> {
+
+    /**
+     * Keys at even positions and their values at odd positions.
+     */
+    private final Unchecked<Object[]> table;
+
+    /**
+     * How many entries.
+     */
+    private final Unchecked<Integer> count;
+
+    /**
+     * Ctor.
+     * @param list List of entries
+     */
+    @SafeVarargs
+    public Compact(final Map.Entry<? extends X, ? extends Y>... list) {
+        this(new IterableOf<>(list));
+    }
+
+    /**
+     * Ctor.
+     * @param map The map to copy
+     */
+    public Compact(final Map<? extends X, ? extends Y> map) {
+        this(map.entrySet());
+    }
+
+    /**
+     * Ctor.
+     * @param list Entries for the map
+     */
+    public Compact(
+        final Iterable<? extends Map.Entry<? extends X, ? extends Y>> list
+    ) {
+        this(Map.Entry::getKey, Map.Entry::getValue, list);
+    }
+
+    /**
+     * Ctor.
+     * @param key Func to create key
+     * @param value Func to create value
+     * @param list List of items
+     * @param <Z> Type of items in the list
+     */
+    public <Z> Compact(
+        final Func<? super Z, ? extends X> key,
+        final Func<? super Z, ? extends Y> value,
+        final Iterable<? extends Z> list
+    ) {
+        this(() -> Compact.filled(key, value, list));
+    }
+
+    /**
+     * Ctor.
+     * @param slots Makes keys at even positions and values at odd ones
+     */
+    private Compact(final Scalar<Object[]> slots) {
+        super();
+        this.table = new Unchecked<>(new Solid<>(slots));
+        this.count = new Unchecked<>(
+            new Solid<>(() -> Compact.counted(this.table.value()))
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Y get(final Object key) {
+        Y value = null;
+        if (key != null) {
+            final Object[] slots = this.table.value();
+            final int pos = Compact.position(slots, key);
+            if (slots[pos] != null) {
+                value = (Y) slots[pos + 1];
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.count.value();
+    }
+
+    @Override
+    public Set<Map.Entry<X, Y>> entrySet() {
+        return new AbstractSet<Map.Entry<X, Y>>() {
+            @Override
+            public Iterator<Map.Entry<X, Y>> iterator() {
+                return new Compact.Cursor<>(Compact.this.table.value());
+            }
+
+            @Override
+            public int size() {
+                return Compact.this.size();
+            }
+        };
+    }
+
+    /**
+     * Fill the table with entries.
+     * @param key Func to create key
+     * @param value Func to create value
+     * @param list List of items
+     * @param <X> Type of key
+     * @param <Y> Type of value
+     * @param <Z> Type of items in the list
+     * @return Keys at even positions and values at odd positions
+     */
+    private static <X, Y, Z> Object[] filled(
+        final Func<? super Z, ? extends X> key,
+        final Func<? super Z, ? extends Y> value,
+        final Iterable<? extends Z> list
+    ) {
+        final Collection<? extends Z> items;
+        if (list instanceof Collection) {
+            items = (Collection<? extends Z>) list;
+        } else {
+            final Collection<Z> copy = new ArrayList<>(0);
+            list.forEach(copy::add);
+            items = copy;
+        }
+        final UncheckedFunc<Z, X> keys = new UncheckedFunc<>(key::apply);
+        final UncheckedFunc<Z, Y> values = new UncheckedFunc<>(value::apply);
+        final Object[] slots = new Object[
+            Integer.highestOneBit(Math.max(1, items.size()) * 2 - 1) * 4
+        ];
+        for (final Z item : items) {
+            final X name = keys.apply(item);
+            final Y data = values.apply(item);
+            if (name == null || data == null) {
+                throw new IllegalArgumentException(
+                    "Neither key nor value may be NULL"
+                );
+            }
+            final int pos = Compact.position(slots, name);
+            slots[pos] = name;
+            slots[pos + 1] = data;
+        }
+        return slots;
+    }
+
+    /**
+     * How many keys are in the table.
+     * @param slots Keys at even positions and values at odd positions
+     * @return Number of keys
+     */
+    private static int counted(final Object[] slots) {
+        int size = 0;
+        for (int idx = 0; idx < slots.length; idx += 2) {
+            if (slots[idx] != null) {
+                ++size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Position of the key in the table, or of the empty slot to put it.
+     * @param slots Keys at even positions and values at odd positions
+     * @param key The key
+     * @return Even position
+     */
+    private static int position(final Object[] slots, final Object key) {
+        final int mask = (slots.length >> 1) - 1;
+        int hash = key.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        int idx = hash & mask;
+        while (slots[idx << 1] != null && !slots[idx << 1].equals(key)) {
+            idx = idx + 1 & mask;
+        }
+        return idx << 1;
+    }
+
+    /**
+     * Iterator over entries of the table.
+     * @param <X> Type of key
+     * @param <Y> Type of value
+     * @since 1.0
+     */
+    private static final class Cursor<X, Y>
+        implements Iterator<Map.Entry<X, Y>> {
+
+        /**
+         * Keys at even positions and values at odd positions.
+         */
+        private final Object[] table;
+
+        /**
+         * Position of the next key, or the length of the table.
+         */
+        private int position;
+
+        /**
+         * Ctor.
+         * @param slots Keys at even positions and values at odd positions
+         */
+        Cursor(final Object[] slots) {
+            this.table = slots;
+            this.position = this.skipped(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.position < this.table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<X, Y> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more entries");
+            }
+            final Map.Entry<X, Y> entry = new MapEntry<>(
+                (X) this.table[this.position],
+                (Y) this.table[this.position + 1]
+            );
+            this.position = this.skipped(this.position + 2);
+            return entry;
+        }
+
+        /**
+         * Position of the first key at or after this one.
+         * @param start Where to start
+         * @return Position of the key, or the length of the table
+         */
+        private int skipped(final int start) {
+            int pos = start;
+            while (pos < this.table.length && this.table[pos] == null) {
+                pos += 2;
+            }
+            return pos;
+        }
+    }
+}
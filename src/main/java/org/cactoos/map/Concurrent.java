@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Concurrent map.
+ *
+ * <p>Entries are copied into a {@link ConcurrentHashMap}, so, unlike
+ * {@link Synced}, readers never block and writers don't block each
+ * other unless they touch the same bins. Atomic operations of
+ * {@link ConcurrentMap}, like {@link #computeIfAbsent(Object, Function)}
+ * and {@link #merge(Object, Object, BiFunction)}, are delegated to it as
+ * well. Neither keys nor values may be NULL.</p>
+ *
+ * <p>Objects of this class are thread-safe.</p>
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Concurrent<X, Y> extends MapEnvelope<X, Y>
+    implements ConcurrentMap<X, Y> {
+
+    /**
+     * The map.
+     */
+    private final ConcurrentMap<X, Y> map;
+
+    /**
+     * Ctor.
+     * @param list List of entries
+     */
+    @SafeVarargs
+    public Concurrent(final Map.Entry<? extends X, ? extends Y>... list) {
+        this(new IterableOf<>(list));
+    }
+
+    /**
+     * Ctor.
+     * @param list List of items
+     * @param key Func to create key
+     * @param value Func to create value
+     * @param <Z> Type of items in the list
+     */
+    public <Z> Concurrent(
+        final Iterable<? extends Z> list,
+        final Func<? super Z, ? extends X> key,
+        final Func<? super Z, ? extends Y> value
+    ) {
+        this(
+            new Mapped<Map.Entry<? extends X, ? extends Y>>(
+                item -> new MapEntry<>(key.apply(item), value.apply(item)),
+                list
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param list Entries for the map
+     */
+    public Concurrent(
+        final Iterable<? extends Map.Entry<? extends X, ? extends Y>> list
+    ) {
+        this(Concurrent.make(list));
+    }
+
+    /**
+     * Ctor.
+     * @param src The map to copy
+     */
+    public Concurrent(final Map<? extends X, ? extends Y> src) {
+        this(new ConcurrentHashMap<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The map to wrap
+     */
+    private Concurrent(final ConcurrentMap<X, Y> src) {
+        super(src);
+        this.map = src;
+    }
+
+    @Override
+    public Y getOrDefault(final Object key, final Y fallback) {
+        return this.map.getOrDefault(key, fallback);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super X, ? super Y> action) {
+        this.map.forEach(action);
+    }
+
+    @Override
+    public Y putIfAbsent(final X key, final Y value) {
+        return this.map.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return this.map.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(final X key, final Y old, final Y value) {
+        return this.map.replace(key, old, value);
+    }
+
+    @Override
+    public Y replace(final X key, final Y value) {
+        return this.map.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(
+        final BiFunction<? super X, ? super Y, ? extends Y> func
+    ) {
+        this.map.replaceAll(func);
+    }
+
+    @Override
+    public Y computeIfAbsent(final X key,
+        final Function<? super X, ? extends Y> func) {
+        return this.map.computeIfAbsent(key, func);
+    }
+
+    @Override
+    public Y computeIfPresent(final X key,
+        final BiFunction<? super X, ? super Y, ? extends Y> func) {
+        return this.map.computeIfPresent(key, func);
+    }
+
+    @Override
+    public Y compute(final X key,
+        final BiFunction<? super X, ? super Y, ? extends Y> func) {
+        return this.map.compute(key, func);
+    }
+
+    @Override
+    public Y merge(final X key, final Y value,
+        final BiFunction<? super Y, ? super Y, ? extends Y> func) {
+        return this.map.merge(key, value, func);
+    }
+
+    /**
+     * Copy entries into a concurrent map.
+     * @param entries List of the entries
+     * @param <X> Key type
+     * @param <Y> Value type
+     * @return Map created
+     */
+    private static <X, Y> ConcurrentMap<X, Y> make(
+        final Iterable<? extends Map.Entry<? extends X, ? extends Y>> entries
+    ) {
+        final ConcurrentMap<X, Y> map = new ConcurrentHashMap<>(0);
+        for (final Map.Entry<? extends X, ? extends Y> entry : entries) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Immutable map with primitive {@code int} keys and open addressing.
+ *
+ * <p>Keys are kept in a flat primitive array and values in a parallel
+ * array, which are probed linearly, so neither keys are boxed nor node
+ * objects are created. {@link #get(int)} finds a value without boxing the
+ * key:</p>
+ *
+ * <pre>{@code
+ * final IntKeyed<String> map = new IntKeyed<>(
+ *     new int[] {200, 404},
+ *     new IterableOf<>("OK", "Not Found")
+ * );
+ * map.get(404);
+ * }</pre>
+ *
+ * <p>The source is read once, when the map is used for the first time.
+ * Values may not be NULL. If a key is repeated, the last value wins.
+ * All modifying methods of {@link Map} throw
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Objects of this class are immutable and thread-safe.</p>
+ *
+ * @param <Y> Type of value
+ * @since 1.0
+ */
+public final class IntKeyed<Y> extends AbstractMap<Integer, Y> {
+
+    /**
+     * The table.
+     */
+    private final Unchecked<OpenTable<Y>> table;
+
+    /**
+     * Ctor.
+     * @param list List of entries
+     */
+    @SafeVarargs
+    public IntKeyed(final Map.Entry<Integer, ? extends Y>... list) {
+        this(new IterableOf<>(list));
+    }
+
+    /**
+     * Ctor.
+     * @param map The map to copy
+     */
+    public IntKeyed(final Map<Integer, ? extends Y> map) {
+        this(map.entrySet());
+    }
+
+    /**
+     * Ctor.
+     * @param list Entries for the map
+     */
+    public IntKeyed(
+        final Iterable<? extends Map.Entry<Integer, ? extends Y>> list
+    ) {
+        this(() -> OpenTable.make(list));
+    }
+
+    /**
+     * Ctor.
+     * @param names Keys
+     * @param src Values of these keys, in the same order
+     */
+    public IntKeyed(final int[] names, final Iterable<? extends Y> src) {
+        this(
+            () -> OpenTable.make(
+                Arrays.stream(names).asLongStream().toArray(), src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param tbl Makes the table
+     */
+    private IntKeyed(final Scalar<OpenTable<Y>> tbl) {
+        super();
+        this.table = new Unchecked<>(new Solid<>(tbl));
+    }
+
+    /**
+     * Value of the key, without boxing it.
+     * @param key The key
+     * @return The value or NULL if absent
+     */
+    public Y get(final int key) {
+        return this.table.value().get(key);
+    }
+
+    @Override
+    public Y get(final Object key) {
+        Y value = null;
+        if (key instanceof Integer) {
+            value = this.get(((Integer) key).intValue());
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.table.value().size();
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, Y>> entrySet() {
+        return new AbstractSet<Map.Entry<Integer, Y>>() {
+            @Override
+            public Iterator<Map.Entry<Integer, Y>> iterator() {
+                return IntKeyed.this.table.value().iterator(
+                    key -> (int) key
+                );
+            }
+
+            @Override
+            public int size() {
+                return IntKeyed.this.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+
+/**
+ * Maps merged into one, without copying their entries.
+ *
+ * <p>Unlike {@link Merged}, which copies all entries into a new map, this
+ * is a read-only view over layers: construction costs O(number of maps),
+ * and {@link #get(Object)} asks the maps one by one, from the last to the
+ * first, so repeatable keys are overridden by next maps. This suits
+ * layered configuration, where defaults are overridden by more specific
+ * settings:</p>
+ *
+ * <pre>{@code
+ * final Map<String, String> config = new Layered<>(defaults, user, cli);
+ * }</pre>
+ *
+ * <p>Changes of the source maps are visible through the view, so
+ * nothing is cached. {@link #get(Object)} and
+ * {@link #containsKey(Object)} cost O(number of maps). Iteration,
+ * {@link #size()}, {@link #equals(Object)} and {@link #hashCode()} visit
+ * every entry of every map, and each entry costs O(number of maps), since
+ * keys overridden by next maps are skipped. So they cost
+ * O(entries &times; maps) on every call, without allocating memory for
+ * keys. All modifying methods of {@link Map} throw
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 1.0
+ */
+public final class Layered<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Maps, the last one overrides the others.
+     */
+    private final List<Map<? extends K, ? extends V>> maps;
+
+    /**
+     * Ctor.
+     * @param src Maps to merge
+     */
+    @SafeVarargs
+    public Layered(final Map<? extends K, ? extends V>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Maps to merge
+     */
+    public Layered(
+        final Iterable<? extends Map<? extends K, ? extends V>> src
+    ) {
+        super();
+        this.maps = new ListOf<>(src);
+    }
+
+    @Override
+    public V get(final Object key) {
+        V value = null;
+        final int layer = this.layer(key, this.maps.size());
+        if (layer >= 0) {
+            value = this.maps.get(layer).get(key);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.layer(key, this.maps.size()) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        boolean empty = true;
+        for (final Map<? extends K, ? extends V> map : this.maps) {
+            if (!map.isEmpty()) {
+                empty = false;
+                break;
+            }
+        }
+        return empty;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new Layered.Cursor<>(Layered.this);
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                final int layers = Layered.this.maps.size();
+                for (int idx = 0; idx < layers; ++idx) {
+                    for (final Object key
+                        : Layered.this.maps.get(idx).keySet()) {
+                        if (Layered.this.layer(key, layers) == idx) {
+                            ++size;
+                        }
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * The last of the first maps that has the key.
+     * @param key The key
+     * @param limit How many first maps to look at
+     * @return Index of the map or -1 if none has the key
+     */
+    private int layer(final Object key, final int limit) {
+        int layer = limit - 1;
+        while (layer >= 0 && !this.maps.get(layer).containsKey(key)) {
+            --layer;
+        }
+        return layer;
+    }
+
+    /**
+     * Iterator over entries which are not overridden by next maps.
+     * @param <K> Key type
+     * @param <V> Value type
+     * @since 1.0
+     */
+    private static final class Cursor<K, V>
+        implements Iterator<Map.Entry<K, V>> {
+
+        /**
+         * The layered map.
+         */
+        private final Layered<K, V> layered;
+
+        /**
+         * Index of the map being iterated.
+         */
+        private int layer;
+
+        /**
+         * Entries of the map being iterated.
+         */
+        private Iterator<? extends Map.Entry<? extends K, ? extends V>> iter;
+
+        /**
+         * The next entry or NULL.
+         */
+        private Map.Entry<K, V> following;
+
+        /**
+         * Ctor.
+         * @param map The layered map
+         */
+        Cursor(final Layered<K, V> map) {
+            this.layered = map;
+            this.layer = map.maps.size();
+            this.following = this.advanced();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.following != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (this.following == null) {
+                throw new NoSuchElementException("No more entries");
+            }
+            final Map.Entry<K, V> entry = this.following;
+            this.following = this.advanced();
+            return entry;
+        }
+
+        /**
+         * Find the next entry, walking maps from the last to the first.
+         * @return The entry or NULL at the end
+         */
+        private Map.Entry<K, V> advanced() {
+            Map.Entry<K, V> entry = null;
+            while (entry == null && this.layer >= 0) {
+                if (this.iter != null && this.iter.hasNext()) {
+                    final Map.Entry<? extends K, ? extends V> next =
+                        this.iter.next();
+                    final int size = this.layered.maps.size();
+                    if (this.layered.layer(next.getKey(), size)
+                        == this.layer) {
+                        entry = new MapEntry<>(next.getKey(), next.getValue());
+                    }
+                } else {
+                    --this.layer;
+                    if (this.layer >= 0) {
+                        this.iter = this.layered.maps.get(this.layer)
+                            .entrySet().iterator();
+                    }
+                }
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+import org.cactoos.list.ListOf;
+
+/**
+ * Table of values with primitive keys and open addressing.
+ *
+ * <p>Keys are kept in a flat {@code long} array and values in a parallel
+ * array, which are probed linearly. It is shared by {@link IntKeyed}
+ * and {@link LongKeyed}.</p>
+ *
+ * <p>Objects of this class are immutable and thread-safe.</p>
+ *
+ * @param <Y> Type of value
+ * @since 1.0
+ */
+final class OpenTable<Y> {
+
+    /**
+     * Keys, valid only where values are present.
+     */
+    private final long[] keys;
+
+    /**
+     * Values and empty slots.
+     */
+    private final Object[] values;
+
+    /**
+     * How many entries.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param names Keys
+     * @param data Values and empty slots
+     * @param size How many entries
+     */
+    private OpenTable(final long[] names, final Object[] data,
+        final int size) {
+        this.keys = names;
+        this.values = data;
+        this.count = size;
+    }
+
+    /**
+     * Value of the key.
+     * @param key The key
+     * @return The value or NULL if absent
+     */
+    @SuppressWarnings("unchecked")
+    public Y get(final long key) {
+        return (Y) this.values[OpenTable.position(this.keys, this.values, key)];
+    }
+
+    /**
+     * How many entries.
+     * @return Size
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Iterator over entries.
+     * @param boxed Boxes a primitive key
+     * @param <K> Type of key
+     * @return Iterator
+     */
+    public <K> Iterator<Map.Entry<K, Y>> iterator(
+        final LongFunction<K> boxed
+    ) {
+        return new OpenTable.Cursor<>(this.keys, this.values, boxed);
+    }
+
+    /**
+     * Make a table from entries, reading them once.
+     * @param list Entries
+     * @param <Y> Type of value
+     * @return Table
+     */
+    static <Y> OpenTable<Y> make(
+        final Iterable<? extends Map.Entry<? extends Number, ? extends Y>> list
+    ) {
+        final List<? extends Map.Entry<? extends Number, ? extends Y>> entries =
+            new ListOf<>(list);
+        final long[] names = new long[entries.size()];
+        final Object[] data = new Object[entries.size()];
+        for (int idx = 0; idx < names.length; ++idx) {
+            names[idx] = entries.get(idx).getKey().longValue();
+            data[idx] = entries.get(idx).getValue();
+        }
+        return OpenTable.make(names, data);
+    }
+
+    /**
+     * Make a table from keys and values.
+     * @param names Keys
+     * @param src Values of these keys, in the same order
+     * @param <Y> Type of value
+     * @return Table
+     */
+    static <Y> OpenTable<Y> make(final long[] names,
+        final Iterable<? extends Y> src) {
+        final Object[] data = new ListOf<>(src).toArray();
+        if (data.length != names.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There are %d keys, but %d values",
+                    names.length, data.length
+                )
+            );
+        }
+        return OpenTable.make(names, data);
+    }
+
+    /**
+     * Make a table from keys and values of the same length.
+     * @param names Keys
+     * @param data Values of these keys, in the same order
+     * @param <Y> Type of value
+     * @return Table
+     */
+    private static <Y> OpenTable<Y> make(final long[] names,
+        final Object[] data) {
+        final int length = Integer.highestOneBit(
+            Math.max(1, names.length) * 2 - 1
+        ) * 2;
+        final long[] slots = new long[length];
+        final Object[] cells = new Object[length];
+        int size = 0;
+        for (int idx = 0; idx < names.length; ++idx) {
+            if (data[idx] == null) {
+                throw new IllegalArgumentException("Value may not be NULL");
+            }
+            final int pos = OpenTable.position(slots, cells, names[idx]);
+            if (cells[pos] == null) {
+                ++size;
+            }
+            slots[pos] = names[idx];
+            cells[pos] = data[idx];
+        }
+        return new OpenTable<>(slots, cells, size);
+    }
+
+    /**
+     * Position of the key in the table, or of the empty slot to put it.
+     * @param names Keys
+     * @param data Values and empty slots
+     * @param key The key
+     * @return Position
+     */
+    private static int position(final long[] names, final Object[] data,
+        final long key) {
+        final int mask = names.length - 1;
+        int hash = (int) (key ^ key >>> 32) * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        int idx = hash & mask;
+        while (data[idx] != null && names[idx] != key) {
+            idx = idx + 1 & mask;
+        }
+        return idx;
+    }
+
+    /**
+     * Iterator over entries of the table.
+     * @param <K> Type of key
+     * @param <Y> Type of value
+     * @since 1.0
+     */
+    private static final class Cursor<K, Y>
+        implements Iterator<Map.Entry<K, Y>> {
+
+        /**
+         * Keys, valid only where values are present.
+         */
+        private final long[] keys;
+
+        /**
+         * Values and empty slots.
+         */
+        private final Object[] values;
+
+        /**
+         * Boxes a primitive key.
+         */
+        private final LongFunction<K> boxed;
+
+        /**
+         * Position of the next entry, or the length of the table.
+         */
+        private int position;
+
+        /**
+         * Ctor.
+         * @param names Keys
+         * @param data Values and empty slots
+         * @param box Boxes a primitive key
+         */
+        Cursor(final long[] names, final Object[] data,
+            final LongFunction<K> box) {
+            this.keys = names;
+            this.values = data;
+            this.boxed = box;
+            this.position = this.skipped(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.position < this.values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, Y> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more entries");
+            }
+            final Map.Entry<K, Y> entry = new MapEntry<>(
+                this.boxed.apply(this.keys[this.position]),
+                (Y) this.values[this.position]
+            );
+            this.position = this.skipped(this.position + 1);
+            return entry;
+        }
+
+        /**
+         * Position of the first entry at or after this one.
+         * @param start Where to start
+         * @return Position of the entry, or the length of the table
+         */
+        private int skipped(final int start) {
+            int pos = start;
+            while (pos < this.values.length && this.values[pos] == null) {
+                ++pos;
+            }
+            return pos;
+        }
+    }
+}
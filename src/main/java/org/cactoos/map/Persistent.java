@@ -0,0 +1,644 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Immutable persistent map.
+ *
+ * <p>Entries are kept in a hash array mapped trie (HAMT): a tree of
+ * 32-way nodes indexed by five bits of the hash of a key at a time. Reads
+ * take O(log32 n) and never lock. Maps are never modified, but
+ * {@link #with(Object, Object)} and {@link #without(Object)} return new
+ * maps which copy only the path to the changed entry and share the rest of
+ * the tree with the original, so a shared lookup table may be updated
+ * cheaply by replacing a reference to it:</p>
+ *
+ * <pre>{@code
+ * final Persistent<String, Integer> first = new Persistent<>(
+ *     new MapEntry<>("one", 1)
+ * );
+ * final Persistent<String, Integer> second = first.with("two", 2);
+ * }</pre>
+ *
+ * <p>Neither keys nor values may be NULL. All modifying methods of
+ * {@link Map} throw {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Objects of this class are immutable and thread-safe.</p>
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Persistent<X, Y> extends AbstractMap<X, Y> {
+
+    /**
+     * Bits of the hash used on each level.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * The root node.
+     */
+    private final Persistent.Node root;
+
+    /**
+     * How many entries.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param list List of entries
+     */
+    @SafeVarargs
+    public Persistent(final Map.Entry<? extends X, ? extends Y>... list) {
+        this(new IterableOf<>(list));
+    }
+
+    /**
+     * Ctor.
+     * @param map The map to copy
+     */
+    public Persistent(final Map<? extends X, ? extends Y> map) {
+        this(map.entrySet());
+    }
+
+    /**
+     * Ctor.
+     * @param list Entries for the map
+     */
+    public Persistent(
+        final Iterable<? extends Map.Entry<? extends X, ? extends Y>> list
+    ) {
+        this(new Persistent<X, Y>(new Persistent.Trie(0, new Object[0]), 0)
+            .withAll(list));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The map to take the tree from
+     */
+    private Persistent(final Persistent<X, Y> origin) {
+        this(origin.root, origin.count);
+    }
+
+    /**
+     * Ctor.
+     * @param node The root node
+     * @param size How many entries
+     */
+    private Persistent(final Persistent.Node node, final int size) {
+        super();
+        this.root = node;
+        this.count = size;
+    }
+
+    /**
+     * The map with the entry added or replaced.
+     * @param key The key
+     * @param value The value
+     * @return New map
+     */
+    public Persistent<X, Y> with(final X key, final Y value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException(
+                "Neither key nor value may be NULL"
+            );
+        }
+        final int hash = Persistent.hash(key);
+        final Object old = this.root.find(key, hash, 0);
+        final Persistent<X, Y> map;
+        if (value.equals(old)) {
+            map = this;
+        } else {
+            int size = this.count;
+            if (old == null) {
+                ++size;
+            }
+            map = new Persistent<>(
+                this.root.with(
+                    new AbstractMap.SimpleImmutableEntry<>(key, value), hash, 0
+                ),
+                size
+            );
+        }
+        return map;
+    }
+
+    /**
+     * The map without the entry.
+     * @param key The key
+     * @return New map
+     */
+    public Persistent<X, Y> without(final Object key) {
+        final Persistent<X, Y> map;
+        if (this.containsKey(key)) {
+            Persistent.Node node = this.root.without(
+                key, Persistent.hash(key), 0
+            );
+            if (node == null) {
+                node = new Persistent.Trie(0, new Object[0]);
+            }
+            map = new Persistent<>(node, this.count - 1);
+        } else {
+            map = this;
+        }
+        return map;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Y get(final Object key) {
+        Y value = null;
+        if (key != null) {
+            value = (Y) this.root.find(key, Persistent.hash(key), 0);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    @Override
+    public Set<Map.Entry<X, Y>> entrySet() {
+        return new AbstractSet<Map.Entry<X, Y>>() {
+            @Override
+            public Iterator<Map.Entry<X, Y>> iterator() {
+                return new Persistent.Cursor<>(Persistent.this.root);
+            }
+
+            @Override
+            public int size() {
+                return Persistent.this.count;
+            }
+        };
+    }
+
+    /**
+     * The map with all these entries added or replaced.
+     * @param list The entries
+     * @return New map
+     */
+    private Persistent<X, Y> withAll(
+        final Iterable<? extends Map.Entry<? extends X, ? extends Y>> list
+    ) {
+        Persistent<X, Y> map = this;
+        for (final Map.Entry<? extends X, ? extends Y> entry : list) {
+            map = map.with(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * Spread hash of a key.
+     * @param key The key
+     * @return Hash
+     */
+    private static int hash(final Object key) {
+        final int hash = key.hashCode();
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Node of the tree.
+     * @since 1.0
+     */
+    private interface Node {
+
+        /**
+         * Find the value of a key.
+         * @param key The key
+         * @param hash Hash of the key
+         * @param shift Bits of the hash used by parents
+         * @return The value or NULL if absent
+         */
+        Object find(Object key, int hash, int shift);
+
+        /**
+         * The node with the entry added or replaced.
+         * @param entry The entry
+         * @param hash Hash of the key
+         * @param shift Bits of the hash used by parents
+         * @return New node
+         */
+        Persistent.Node with(Map.Entry<?, ?> entry, int hash, int shift);
+
+        /**
+         * The node without the entry, which must be there.
+         * @param key The key
+         * @param hash Hash of the key
+         * @param shift Bits of the hash used by parents
+         * @return New node, or NULL if it's empty
+         */
+        Persistent.Node without(Object key, int hash, int shift);
+
+        /**
+         * Slots of the node: entries and child nodes.
+         * @return Slots
+         */
+        Object[] slots();
+    }
+
+    /**
+     * Node with up to 32 slots, selected by five bits of hashes.
+     * @since 1.0
+     */
+    private static final class Trie implements Persistent.Node {
+
+        /**
+         * Which of 32 slots are present.
+         */
+        private final int bitmap;
+
+        /**
+         * Present slots: entries or child nodes.
+         */
+        private final Object[] array;
+
+        /**
+         * Ctor.
+         * @param bits Which of 32 slots are present
+         * @param slots Present slots
+         */
+        Trie(final int bits, final Object[] slots) {
+            this.bitmap = bits;
+            this.array = slots;
+        }
+
+        @Override
+        public Object find(final Object key, final int hash, final int shift) {
+            final int bit = Trie.bit(hash, shift);
+            Object value = null;
+            if ((this.bitmap & bit) != 0) {
+                final Object slot = this.array[this.position(bit)];
+                if (slot instanceof Persistent.Node) {
+                    value = ((Persistent.Node) slot).find(
+                        key, hash, shift + Persistent.BITS
+                    );
+                } else if (((Map.Entry<?, ?>) slot).getKey().equals(key)) {
+                    value = ((Map.Entry<?, ?>) slot).getValue();
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public Persistent.Node with(final Map.Entry<?, ?> entry,
+            final int hash, final int shift) {
+            final int bit = Trie.bit(hash, shift);
+            final int pos = this.position(bit);
+            final Persistent.Node node;
+            if ((this.bitmap & bit) == 0) {
+                final Object[] slots = new Object[this.array.length + 1];
+                System.arraycopy(this.array, 0, slots, 0, pos);
+                slots[pos] = entry;
+                System.arraycopy(
+                    this.array, pos, slots, pos + 1, this.array.length - pos
+                );
+                node = new Persistent.Trie(this.bitmap | bit, slots);
+            } else {
+                final Object slot = this.array[pos];
+                final Object replaced;
+                if (slot instanceof Persistent.Node) {
+                    replaced = ((Persistent.Node) slot).with(
+                        entry, hash, shift + Persistent.BITS
+                    );
+                } else if (((Map.Entry<?, ?>) slot).getKey()
+                    .equals(entry.getKey())) {
+                    replaced = entry;
+                } else {
+                    replaced = Trie.pair(
+                        (Map.Entry<?, ?>) slot, entry, hash,
+                        shift + Persistent.BITS
+                    );
+                }
+                final Object[] slots = this.array.clone();
+                slots[pos] = replaced;
+                node = new Persistent.Trie(this.bitmap, slots);
+            }
+            return node;
+        }
+
+        @Override
+        public Persistent.Node without(final Object key, final int hash,
+            final int shift) {
+            final int bit = Trie.bit(hash, shift);
+            final int pos = this.position(bit);
+            final Object slot = this.array[pos];
+            Object replaced = null;
+            if (slot instanceof Persistent.Node) {
+                final Persistent.Node child = ((Persistent.Node) slot)
+                    .without(key, hash, shift + Persistent.BITS);
+                if (child != null) {
+                    final Object[] inner = child.slots();
+                    if (inner.length == 1
+                        && !(inner[0] instanceof Persistent.Node)) {
+                        replaced = inner[0];
+                    } else {
+                        replaced = child;
+                    }
+                }
+            }
+            final Persistent.Node node;
+            if (replaced != null) {
+                final Object[] slots = this.array.clone();
+                slots[pos] = replaced;
+                node = new Persistent.Trie(this.bitmap, slots);
+            } else if (this.array.length == 1) {
+                node = null;
+            } else {
+                final Object[] slots = new Object[this.array.length - 1];
+                System.arraycopy(this.array, 0, slots, 0, pos);
+                System.arraycopy(
+                    this.array, pos + 1, slots, pos, slots.length - pos
+                );
+                node = new Persistent.Trie(this.bitmap & ~bit, slots);
+            }
+            return node;
+        }
+
+        @Override
+        public Object[] slots() {
+            return this.array;
+        }
+
+        /**
+         * Position of a present slot in the array.
+         * @param bit Bit of the slot
+         * @return Position
+         */
+        private int position(final int bit) {
+            return Integer.bitCount(this.bitmap & bit - 1);
+        }
+
+        /**
+         * Bit of the slot for a hash.
+         * @param hash The hash
+         * @param shift Bits of the hash used by parents
+         * @return Bit of the slot
+         */
+        private static int bit(final int hash, final int shift) {
+            return 1 << (hash >>> shift & 31);
+        }
+
+        /**
+         * Node with two entries, whose hashes are equal in used bits.
+         * @param first The first entry
+         * @param second The second entry
+         * @param hash Hash of the second entry
+         * @param shift Bits of hashes used by parents
+         * @return New node
+         */
+        private static Persistent.Node pair(final Map.Entry<?, ?> first,
+            final Map.Entry<?, ?> second, final int hash, final int shift) {
+            final int other = Persistent.hash(first.getKey());
+            final Persistent.Node node;
+            if (other == hash) {
+                node = new Persistent.Collision(
+                    hash, new Object[] {first, second}
+                );
+            } else {
+                final int one = Trie.bit(other, shift);
+                final int two = Trie.bit(hash, shift);
+                if (one == two) {
+                    node = new Persistent.Trie(
+                        one,
+                        new Object[] {
+                            Trie.pair(
+                                first, second, hash, shift + Persistent.BITS
+                            ),
+                        }
+                    );
+                } else if (Integer.compareUnsigned(one, two) < 0) {
+                    node = new Persistent.Trie(
+                        one | two, new Object[] {first, second}
+                    );
+                } else {
+                    node = new Persistent.Trie(
+                        one | two, new Object[] {second, first}
+                    );
+                }
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Node with entries whose keys have equal hashes.
+     * @since 1.0
+     */
+    private static final class Collision implements Persistent.Node {
+
+        /**
+         * Hash of all keys.
+         */
+        private final int code;
+
+        /**
+         * Entries.
+         */
+        private final Object[] array;
+
+        /**
+         * Ctor.
+         * @param hash Hash of all keys
+         * @param entries Entries
+         */
+        Collision(final int hash, final Object[] entries) {
+            this.code = hash;
+            this.array = entries;
+        }
+
+        @Override
+        public Object find(final Object key, final int hash, final int shift) {
+            Object value = null;
+            final int pos = this.position(key);
+            if (hash == this.code && pos >= 0) {
+                value = ((Map.Entry<?, ?>) this.array[pos]).getValue();
+            }
+            return value;
+        }
+
+        @Override
+        public Persistent.Node with(final Map.Entry<?, ?> entry,
+            final int hash, final int shift) {
+            final Persistent.Node node;
+            if (hash == this.code) {
+                final int pos = this.position(entry.getKey());
+                final Object[] slots;
+                if (pos >= 0) {
+                    slots = this.array.clone();
+                    slots[pos] = entry;
+                } else {
+                    slots = new Object[this.array.length + 1];
+                    System.arraycopy(
+                        this.array, 0, slots, 0, this.array.length
+                    );
+                    slots[this.array.length] = entry;
+                }
+                node = new Persistent.Collision(this.code, slots);
+            } else {
+                node = new Persistent.Trie(
+                    Trie.bit(this.code, shift), new Object[] {this}
+                ).with(entry, hash, shift);
+            }
+            return node;
+        }
+
+        @Override
+        public Persistent.Node without(final Object key, final int hash,
+            final int shift) {
+            final int pos = this.position(key);
+            final Persistent.Node node;
+            if (this.array.length == 1) {
+                node = null;
+            } else {
+                final Object[] slots = new Object[this.array.length - 1];
+                System.arraycopy(this.array, 0, slots, 0, pos);
+                System.arraycopy(
+                    this.array, pos + 1, slots, pos, slots.length - pos
+                );
+                node = new Persistent.Collision(this.code, slots);
+            }
+            return node;
+        }
+
+        @Override
+        public Object[] slots() {
+            return this.array;
+        }
+
+        /**
+         * Position of the entry with this key.
+         * @param key The key
+         * @return Position or -1 if absent
+         */
+        private int position(final Object key) {
+            int pos = -1;
+            for (int idx = 0; idx < this.array.length; ++idx) {
+                if (((Map.Entry<?, ?>) this.array[idx]).getKey().equals(key)) {
+                    pos = idx;
+                    break;
+                }
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Iterator over entries of the tree.
+     * @param <X> Type of key
+     * @param <Y> Type of value
+     * @since 1.0
+     */
+    private static final class Cursor<X, Y>
+        implements Iterator<Map.Entry<X, Y>> {
+
+        /**
+         * Slots being iterated, from the root down.
+         */
+        private final Deque<Object[]> slots;
+
+        /**
+         * Positions in slots being iterated.
+         */
+        private final Deque<Integer> positions;
+
+        /**
+         * The next entry or NULL.
+         */
+        private Map.Entry<X, Y> following;
+
+        /**
+         * Ctor.
+         * @param root The root node
+         */
+        Cursor(final Persistent.Node root) {
+            this.slots = new ArrayDeque<>(8);
+            this.positions = new ArrayDeque<>(8);
+            this.slots.push(root.slots());
+            this.positions.push(0);
+            this.following = this.advanced();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.following != null;
+        }
+
+        @Override
+        public Map.Entry<X, Y> next() {
+            if (this.following == null) {
+                throw new NoSuchElementException("No more entries");
+            }
+            final Map.Entry<X, Y> entry = this.following;
+            this.following = this.advanced();
+            return entry;
+        }
+
+        /**
+         * Find the next entry.
+         * @return The entry or NULL at the end
+         */
+        @SuppressWarnings("unchecked")
+        private Map.Entry<X, Y> advanced() {
+            Map.Entry<X, Y> entry = null;
+            while (entry == null && !this.slots.isEmpty()) {
+                final Object[] top = this.slots.peek();
+                final int pos = this.positions.pop();
+                if (pos < top.length) {
+                    this.positions.push(pos + 1);
+                    final Object slot = top[pos];
+                    if (slot instanceof Persistent.Node) {
+                        this.slots.push(((Persistent.Node) slot).slots());
+                        this.positions.push(0);
+                    } else {
+                        entry = (Map.Entry<X, Y>) slot;
+                    }
+                } else {
+                    this.slots.pop();
+                }
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count and sum of numbers, found in one pass.
+ *
+ * <p>Integral numbers are summed exactly in a {@code long}, which spills
+ * into a {@link BigInteger} only on overflow. Floating point numbers are
+ * summed with Neumaier compensation, so the error does not grow with the
+ * number of values. {@link BigDecimal} is used only for numbers of other
+ * types, like {@link BigDecimal} itself.</p>
+ *
+ * <p>Each call of {@link #total()} or {@link #average()} makes a new pass
+ * over the source.</p>
+ *
+ * <p>Just like {@link BigDecimal}, it rejects infinite and NaN values
+ * with {@link NumberFormatException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Aggregate {
+
+    /**
+     * The numbers.
+     */
+    private final Iterable<? extends Number> source;
+
+    /**
+     * Ctor.
+     * @param src The numbers
+     */
+    Aggregate(final Iterable<? extends Number> src) {
+        this.source = src;
+    }
+
+    /**
+     * The sum.
+     * @return Exact sum as {@link Long} or {@link BigDecimal}, or as
+     *  {@link Double} if there are floating point numbers
+     */
+    Number total() {
+        return this.pass().total();
+    }
+
+    /**
+     * The average.
+     * @return The average, zero if there are no numbers
+     */
+    Number average() {
+        return this.pass().average();
+    }
+
+    /**
+     * Make a pass over the numbers.
+     * @return Accumulated count and sums
+     */
+    private Aggregate.Pass pass() {
+        final Aggregate.Pass pass = new Aggregate.Pass(this.source);
+        for (final Number value : this.source) {
+            pass.add(value);
+        }
+        return pass;
+    }
+
+    /**
+     * Count and sums accumulated in one pass.
+     * @since 1.0
+     */
+    private static final class Pass {
+
+        /**
+         * Largest absolute value of a long, which double holds exactly.
+         */
+        private static final long EXACT = 1L << 53;
+
+        /**
+         * The numbers, to sum them again if the double sum overflows.
+         */
+        private final Iterable<? extends Number> source;
+
+        /**
+         * How many numbers.
+         */
+        private long count;
+
+        /**
+         * Sum of integral numbers, without overflow.
+         */
+        private long integral;
+
+        /**
+         * Overflow of the sum of integral numbers, or NULL.
+         */
+        private BigInteger overflow;
+
+        /**
+         * Is there any floating point number?
+         */
+        private boolean floating;
+
+        /**
+         * Sum of floating point numbers.
+         */
+        private double sum;
+
+        /**
+         * Compensation of the sum of floating point numbers.
+         */
+        private double compensation;
+
+        /**
+         * Sum of numbers of other types, or NULL.
+         */
+        private BigDecimal decimal;
+
+        /**
+         * Ctor.
+         * @param src The numbers
+         */
+        Pass(final Iterable<? extends Number> src) {
+            this.source = src;
+        }
+
+        /**
+         * The sum.
+         * @return Exact sum as {@link Long} or {@link BigDecimal}, or as
+         *  {@link Double} if there are floating point numbers
+         */
+        Number total() {
+            final Number total;
+            if (this.decimal != null) {
+                total = this.exact();
+            } else if (this.floating) {
+                total = this.floats();
+            } else if (this.overflow != null) {
+                total = new BigDecimal(
+                    this.overflow.add(BigInteger.valueOf(this.integral))
+                );
+            } else {
+                total = this.integral;
+            }
+            return total;
+        }
+
+        /**
+         * The average.
+         * @return The average, zero if there are no numbers
+         */
+        Number average() {
+            final Number avg;
+            if (this.count == 0L) {
+                avg = BigDecimal.ZERO;
+            } else if (this.decimal == null && this.floating) {
+                final double total = this.floats();
+                if (!Double.isFinite(total)) {
+                    avg = this.exact().divide(
+                        BigDecimal.valueOf(this.count), MathContext.DECIMAL128
+                    );
+                } else {
+                    avg = total / this.count;
+                }
+            } else if (this.decimal == null && this.overflow == null
+                && Math.abs(this.integral) < Aggregate.Pass.EXACT) {
+                final long quot = this.integral / this.count;
+                final double real = (double) this.integral / this.count;
+                avg = new NumberOfScalars(
+                    () -> quot, () -> (int) quot, () -> (float) real, () -> real
+                );
+            } else {
+                avg = this.exact().divide(
+                    BigDecimal.valueOf(this.count), MathContext.DECIMAL128
+                );
+            }
+            return avg;
+        }
+
+        /**
+         * Add a number.
+         * @param value The number
+         */
+        void add(final Number value) {
+            ++this.count;
+            if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte
+                || value instanceof AtomicInteger
+                || value instanceof AtomicLong) {
+                final long num = value.longValue();
+                final long res = this.integral + num;
+                if (((this.integral ^ res) & (num ^ res)) < 0L) {
+                    if (this.overflow == null) {
+                        this.overflow = BigInteger.ZERO;
+                    }
+                    this.overflow = this.overflow.add(
+                        BigInteger.valueOf(this.integral)
+                    );
+                    this.integral = num;
+                } else {
+                    this.integral = res;
+                }
+            } else if (value instanceof Double || value instanceof Float) {
+                final double num = value.doubleValue();
+                if (!Double.isFinite(num)) {
+                    throw new NumberFormatException(
+                        String.format("Can't aggregate %s", value)
+                    );
+                }
+                this.floating = true;
+                final double res = this.sum + num;
+                if (Math.abs(this.sum) >= Math.abs(num)) {
+                    this.compensation += this.sum - res + num;
+                } else {
+                    this.compensation += num - res + this.sum;
+                }
+                this.sum = res;
+            } else {
+                if (this.decimal == null) {
+                    this.decimal = BigDecimal.ZERO;
+                }
+                this.decimal = this.decimal.add(
+                    new BigDecimal(value.toString())
+                );
+            }
+        }
+
+        /**
+         * Sum of all numbers as double.
+         * @return The sum
+         */
+        private double floats() {
+            final double res = this.sum + this.integral;
+            double comp = this.compensation;
+            if (Math.abs(this.sum) >= Math.abs((double) this.integral)) {
+                comp += this.sum - res + this.integral;
+            } else {
+                comp += this.integral - res + this.sum;
+            }
+            double total = res + comp;
+            if (this.overflow != null) {
+                total += this.overflow.doubleValue();
+            }
+            return total;
+        }
+
+        /**
+         * Exact sum of all numbers.
+         *
+         * <p>If the sum of floating point numbers overflows, the numbers are
+         * summed again, as decimals.</p>
+         * @return The sum
+         */
+        private BigDecimal exact() {
+            BigDecimal total;
+            if (!Double.isFinite(this.sum + this.compensation)) {
+                total = BigDecimal.ZERO;
+                for (final Number value : this.source) {
+                    total = total.add(new BigDecimal(value.toString()));
+                }
+            } else {
+                total = this.parts();
+            }
+            return total;
+        }
+
+        /**
+         * Exact sum of all parts of the sum.
+         * @return The sum
+         */
+        private BigDecimal parts() {
+            BigDecimal total = BigDecimal.valueOf(this.integral);
+            if (this.overflow != null) {
+                total = total.add(new BigDecimal(this.overflow));
+            }
+            if (this.decimal != null) {
+                total = total.add(this.decimal);
+            }
+            if (this.floating) {
+                total = total.add(new BigDecimal(this.sum))
+                    .add(new BigDecimal(this.compensation));
+            }
+            return total;
+        }
+    }
+}
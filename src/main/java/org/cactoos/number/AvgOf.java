@@ -86,4 +86,15 @@ public final class AvgOf extends NumberEnvelope {
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The average is taken from the summary, as a {@code double}.</p>
+     *
+     * @param src Summary of numbers
+     */
+    public AvgOf(final Summary src) {
+        super(new NumberOfScalars(() -> src.mean()));
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Solid;
+
+/**
+ * Average of numbers, found fast, only once.
+ *
+ * <p>Unlike {@link AvgOf}, which converts each number to
+ * {@link java.math.BigDecimal} on every call, it makes one pass over the
+ * source on the first call and caches the result. Integral numbers are
+ * summed exactly, floating point numbers are summed with Neumaier
+ * compensation of rounding errors, and {@link java.math.BigDecimal} is
+ * used only for numbers of other types. So the average of doubles may differ
+ * from the exact decimal one in the last bits:</p>
+ *
+ * <pre>
+ * double average = new CompensatedAvgOf(numbers).doubleValue();
+ * </pre>
+ *
+ * <p>Changes of the source after the first call are not visible.</p>
+ *
+ * <p>Objects of this class are thread-safe, if the source is.
+ *
+ * @since 1.0
+ */
+public final class CompensatedAvgOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 1802789744851978413L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public CompensatedAvgOf(final Number... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public CompensatedAvgOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(new Solid<>(() -> new Aggregate(src).average()))
+        );
+    }
+}
@@ -85,4 +85,15 @@ public final class MaxOf extends NumberEnvelope {
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The maximum is taken from the summary, as a {@code double}.</p>
+     *
+     * @param src Summary of numbers
+     */
+    public MaxOf(final Summary src) {
+        super(new NumberOfScalars(() -> src.max()));
+    }
 }
@@ -85,4 +85,15 @@ public final class MinOf extends NumberEnvelope {
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The minimum is taken from the summary, as a {@code double}.</p>
+     *
+     * @param src Summary of numbers
+     */
+    public MinOf(final Summary src) {
+        super(new NumberOfScalars(() -> src.min()));
+    }
 }
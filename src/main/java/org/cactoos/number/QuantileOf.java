@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+/**
+ * Approximate quantile of numbers.
+ *
+ * <p>Here is how you can use it to find the 99th percentile of latencies,
+ * measured in two parts:</p>
+ *
+ * <pre>
+ * double p99 = new QuantileOf(
+ *     0.99,
+ *     new Summary(new Summary(first), new Summary(second))
+ * ).doubleValue();
+ * </pre>
+ *
+ * <p>The quantile is estimated with a relative error not bigger than the
+ * accuracy of the {@link Summary}. Quantiles {@code 0} and {@code 1} are
+ * exactly the minimum and the maximum. If there are no numbers,
+ * {@link java.util.NoSuchElementException} is thrown.</p>
+ *
+ * <p>Objects of this class are thread safe, if the source is.
+ *
+ * @since 1.0
+ */
+public final class QuantileOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -3206402745211985187L;
+
+    /**
+     * Ctor.
+     * @param quantile The quantile, between 0 and 1
+     * @param src The iterable
+     */
+    public QuantileOf(final double quantile,
+        final Iterable<? extends Number> src) {
+        this(quantile, new Summary(src));
+    }
+
+    /**
+     * Ctor.
+     * @param quantile The quantile, between 0 and 1
+     * @param src Summary of numbers
+     */
+    public QuantileOf(final double quantile, final Summary src) {
+        super(new NumberOfScalars(() -> src.quantile(quantile)));
+    }
+}
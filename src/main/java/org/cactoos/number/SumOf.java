@@ -73,4 +73,15 @@ public final class SumOf extends NumberEnvelope {
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The sum is taken from the summary, as a {@code double}.</p>
+     *
+     * @param src Summary of numbers
+     */
+    public SumOf(final Summary src) {
+        super(new NumberOfScalars(() -> src.sum()));
+    }
 }
@@ -0,0 +1,572 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Summary statistics of numbers, found in one pass.
+ *
+ * <p>It finds count, sum, mean, variance (with Welford's algorithm),
+ * minimum, maximum and approximate quantiles of numbers at once. Quantiles
+ * are estimated with a DDSketch: values are counted in buckets growing
+ * exponentially, so memory is bounded by the logarithm of the range of
+ * values, and each quantile is found with a relative error not bigger
+ * than the given accuracy, 1% by default.</p>
+ *
+ * <p>Summaries of parts of data may be computed separately, even in
+ * parallel, and then merged:</p>
+ *
+ * <pre> final Summary all = new Summary(
+ *   new Summary(first), new Summary(second)
+ * );
+ * final double p99 = new QuantileOf(0.99, all).doubleValue();
+ * final double avg = new AvgOf(all).doubleValue();
+ * final long count = all.count();</pre>
+ *
+ * <p>Numbers are read only once, when statistics are needed for the first
+ * time. All numbers are treated as {@code double} values. Infinite and
+ * NaN values are rejected with {@link IllegalArgumentException}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the source is.
+ *
+ * @see VarianceOf
+ * @see QuantileOf
+ * @since 1.0
+ */
+public final class Summary {
+
+    /**
+     * Default accuracy of quantiles.
+     */
+    private static final double ACCURACY = 0.01;
+
+    /**
+     * Statistics, found only once.
+     */
+    private final Unchecked<Summary.State> stats;
+
+    /**
+     * Ctor.
+     * @param src The numbers
+     */
+    public Summary(final Iterable<? extends Number> src) {
+        this(Summary.ACCURACY, src);
+    }
+
+    /**
+     * Ctor.
+     * @param accuracy Relative accuracy of quantiles, between 0 and 1
+     * @param src The numbers
+     */
+    public Summary(final double accuracy,
+        final Iterable<? extends Number> src) {
+        this(
+            () -> {
+                final Summary.State state = new Summary.State(accuracy);
+                for (final Number num : src) {
+                    state.add(num.doubleValue());
+                }
+                return state;
+            }
+        );
+        if (!(accuracy > 0.0 && accuracy < 1.0)) {
+            throw new IllegalArgumentException(
+                String.format("Accuracy must be in (0, 1): %f", accuracy)
+            );
+        }
+    }
+
+    /**
+     * Ctor.
+     * @param first The first summary to merge
+     * @param others Other summaries to merge
+     */
+    public Summary(final Summary first, final Summary... others) {
+        this(
+            () -> {
+                final Summary.State state = first.stats.value().copy();
+                for (final Summary other : others) {
+                    state.merge(other.stats.value());
+                }
+                return state;
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src Source of statistics
+     */
+    private Summary(final Scalar<Summary.State> src) {
+        this.stats = new Unchecked<>(new Solid<>(src));
+    }
+
+    /**
+     * How many numbers.
+     * @return Count
+     */
+    public long count() {
+        return this.stats.value().count;
+    }
+
+    /**
+     * Sum of numbers.
+     * @return Sum
+     */
+    public double sum() {
+        final Summary.State state = this.stats.value();
+        return state.sum + state.compensation;
+    }
+
+    /**
+     * Mean of numbers.
+     * @return Mean, zero if there are no numbers
+     */
+    public double mean() {
+        return this.stats.value().mean;
+    }
+
+    /**
+     * Population variance of numbers.
+     * @return Variance, zero if there are no numbers
+     */
+    public double variance() {
+        final Summary.State state = this.stats.value();
+        double var = 0.0;
+        if (state.count > 0L) {
+            var = state.squares / state.count;
+        }
+        return var;
+    }
+
+    /**
+     * The least number.
+     * @return Minimum
+     */
+    public double min() {
+        return this.nonEmpty().min;
+    }
+
+    /**
+     * The greatest number.
+     * @return Maximum
+     */
+    public double max() {
+        return this.nonEmpty().max;
+    }
+
+    /**
+     * Approximate quantile.
+     * @param quantile The quantile, between 0 and 1
+     * @return Value of the quantile
+     */
+    public double quantile(final double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException(
+                String.format("Quantile must be in [0, 1]: %f", quantile)
+            );
+        }
+        return this.nonEmpty().quantile(quantile);
+    }
+
+    /**
+     * Statistics of at least one number.
+     * @return The state
+     */
+    private Summary.State nonEmpty() {
+        final Summary.State state = this.stats.value();
+        if (state.count == 0L) {
+            throw new NoSuchElementException(
+                "Can't find statistics of an empty iterable"
+            );
+        }
+        return state;
+    }
+
+    /**
+     * Statistics found so far.
+     * @since 1.0
+     */
+    private static final class State {
+
+        /**
+         * Accuracy.
+         */
+        private final double accuracy;
+
+        /**
+         * Logarithm of the growth of bucket bounds.
+         */
+        private final double gamma;
+
+        /**
+         * Buckets of positive values.
+         */
+        private final Summary.Buckets positive;
+
+        /**
+         * Buckets of absolute negative values.
+         */
+        private final Summary.Buckets negative;
+
+        /**
+         * How many values.
+         */
+        private long count;
+
+        /**
+         * How many zeros, and values too small for buckets.
+         */
+        private long zeros;
+
+        /**
+         * Sum of values.
+         */
+        private double sum;
+
+        /**
+         * Compensation of the sum.
+         */
+        private double compensation;
+
+        /**
+         * Running mean.
+         */
+        private double mean;
+
+        /**
+         * Sum of squares of differences from the mean.
+         */
+        private double squares;
+
+        /**
+         * Minimum.
+         */
+        private double min = Double.POSITIVE_INFINITY;
+
+        /**
+         * Maximum.
+         */
+        private double max = Double.NEGATIVE_INFINITY;
+
+        /**
+         * Ctor.
+         * @param acc Accuracy
+         */
+        State(final double acc) {
+            this(acc, new Summary.Buckets(), new Summary.Buckets());
+        }
+
+        /**
+         * Ctor.
+         * @param acc Accuracy
+         * @param pos Buckets of positive values
+         * @param neg Buckets of negative values
+         */
+        private State(final double acc, final Summary.Buckets pos,
+            final Summary.Buckets neg) {
+            this.accuracy = acc;
+            this.gamma = Math.log((1.0 + acc) / (1.0 - acc));
+            this.positive = pos;
+            this.negative = neg;
+        }
+
+        /**
+         * Add a value.
+         * @param value The value
+         */
+        void add(final double value) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException(
+                    String.format("Can't summarize %s", value)
+                );
+            }
+            ++this.count;
+            final double res = this.sum + value;
+            if (Math.abs(this.sum) >= Math.abs(value)) {
+                this.compensation += this.sum - res + value;
+            } else {
+                this.compensation += value - res + this.sum;
+            }
+            this.sum = res;
+            final double delta = value - this.mean;
+            this.mean += delta / this.count;
+            this.squares += delta * (value - this.mean);
+            this.min = Math.min(this.min, value);
+            this.max = Math.max(this.max, value);
+            if (value >= Double.MIN_NORMAL) {
+                this.positive.add(this.index(value), 1L);
+            } else if (value <= -Double.MIN_NORMAL) {
+                this.negative.add(this.index(-value), 1L);
+            } else {
+                ++this.zeros;
+            }
+        }
+
+        /**
+         * Merge other statistics into these ones.
+         * @param other Other statistics
+         */
+        void merge(final Summary.State other) {
+            if (Double.compare(this.accuracy, other.accuracy) != 0) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't merge summaries of accuracy %f and %f",
+                        this.accuracy, other.accuracy
+                    )
+                );
+            }
+            if (other.count > 0L) {
+                final long total = this.count + other.count;
+                final double delta = other.mean - this.mean;
+                this.mean += delta * other.count / total;
+                this.squares += other.squares
+                    + delta * delta * this.count * other.count / total;
+                this.count = total;
+                final double res = this.sum + other.sum;
+                this.compensation += other.compensation;
+                if (Math.abs(this.sum) >= Math.abs(other.sum)) {
+                    this.compensation += this.sum - res + other.sum;
+                } else {
+                    this.compensation += other.sum - res + this.sum;
+                }
+                this.sum = res;
+                this.min = Math.min(this.min, other.min);
+                this.max = Math.max(this.max, other.max);
+                this.zeros += other.zeros;
+                this.positive.merge(other.positive);
+                this.negative.merge(other.negative);
+            }
+        }
+
+        /**
+         * Copy of these statistics.
+         * @return Copy
+         */
+        Summary.State copy() {
+            final Summary.State copy = new Summary.State(
+                this.accuracy, this.positive.copy(), this.negative.copy()
+            );
+            copy.count = this.count;
+            copy.zeros = this.zeros;
+            copy.sum = this.sum;
+            copy.compensation = this.compensation;
+            copy.mean = this.mean;
+            copy.squares = this.squares;
+            copy.min = this.min;
+            copy.max = this.max;
+            return copy;
+        }
+
+        /**
+         * Approximate quantile.
+         * @param quantile The quantile
+         * @return The value
+         */
+        double quantile(final double quantile) {
+            final double value;
+            if (quantile == 0.0) {
+                value = this.min;
+            } else if (quantile == 1.0) {
+                value = this.max;
+            } else {
+                final long rank = (long) (quantile * (this.count - 1));
+                final double found;
+                if (rank < this.negative.total) {
+                    found = -this.value(
+                        this.negative.last(this.negative.total - 1L - rank)
+                    );
+                } else if (rank < this.negative.total + this.zeros) {
+                    found = 0.0;
+                } else {
+                    found = this.value(
+                        this.positive.first(
+                            rank - this.negative.total - this.zeros
+                        )
+                    );
+                }
+                value = Math.max(this.min, Math.min(this.max, found));
+            }
+            return value;
+        }
+
+        /**
+         * Bucket of a positive value.
+         * @param value The value
+         * @return Index of the bucket
+         */
+        private int index(final double value) {
+            return (int) Math.ceil(Math.log(value) / this.gamma);
+        }
+
+        /**
+         * Value that represents a bucket.
+         * @param index Index of the bucket
+         * @return The value
+         */
+        private double value(final int index) {
+            return 2.0 * Math.exp(index * this.gamma)
+                / (1.0 + Math.exp(this.gamma));
+        }
+    }
+
+    /**
+     * Counters of buckets, in an array that grows as needed.
+     * @since 1.0
+     */
+    private static final class Buckets {
+
+        /**
+         * Counters.
+         */
+        private long[] counts;
+
+        /**
+         * Index of the first counter.
+         */
+        private int offset;
+
+        /**
+         * Total of all counters.
+         */
+        private long total;
+
+        /**
+         * Ctor.
+         */
+        Buckets() {
+            this(new long[0], 0, 0L);
+        }
+
+        /**
+         * Ctor.
+         * @param cnts Counters
+         * @param off Index of the first counter
+         * @param ttl Total of counters
+         */
+        private Buckets(final long[] cnts, final int off, final long ttl) {
+            this.counts = cnts;
+            this.offset = off;
+            this.total = ttl;
+        }
+
+        /**
+         * Count a bucket.
+         * @param index Index of the bucket
+         * @param num How many values
+         */
+        void add(final int index, final long num) {
+            if (this.counts.length == 0) {
+                this.counts = new long[16];
+                this.offset = index - 8;
+            }
+            if (index < this.offset) {
+                final int shift = Math.max(
+                    this.offset - index, this.counts.length / 2
+                );
+                final long[] grown = new long[this.counts.length + shift];
+                System.arraycopy(
+                    this.counts, 0, grown, shift, this.counts.length
+                );
+                this.counts = grown;
+                this.offset -= shift;
+            } else if (index >= this.offset + this.counts.length) {
+                this.counts = Arrays.copyOf(
+                    this.counts,
+                    Math.max(
+                        index - this.offset + 1,
+                        this.counts.length + this.counts.length / 2
+                    )
+                );
+            }
+            this.counts[index - this.offset] += num;
+            this.total += num;
+        }
+
+        /**
+         * Merge other buckets into these ones.
+         * @param other Other buckets
+         */
+        void merge(final Summary.Buckets other) {
+            for (int idx = 0; idx < other.counts.length; ++idx) {
+                if (other.counts[idx] > 0L) {
+                    this.add(other.offset + idx, other.counts[idx]);
+                }
+            }
+        }
+
+        /**
+         * Copy of these buckets.
+         * @return Copy
+         */
+        Summary.Buckets copy() {
+            return new Summary.Buckets(
+                this.counts.clone(), this.offset, this.total
+            );
+        }
+
+        /**
+         * Index of the bucket with the value of this rank, in ascending
+         * order.
+         * @param rank The rank
+         * @return Index of the bucket
+         */
+        int first(final long rank) {
+            long seen = 0L;
+            int idx = 0;
+            while (idx < this.counts.length - 1) {
+                seen += this.counts[idx];
+                if (seen > rank) {
+                    break;
+                }
+                ++idx;
+            }
+            return this.offset + idx;
+        }
+
+        /**
+         * Index of the bucket with the value of this rank, in descending
+         * order.
+         * @param rank The rank
+         * @return Index of the bucket
+         */
+        int last(final long rank) {
+            long seen = 0L;
+            int idx = this.counts.length - 1;
+            while (idx > 0) {
+                seen += this.counts[idx];
+                if (seen > rank) {
+                    break;
+                }
+                --idx;
+            }
+            return this.offset + idx;
+        }
+    }
+}
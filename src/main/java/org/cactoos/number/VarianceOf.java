@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+/**
+ * Population variance of numbers.
+ *
+ * <p>Here is how you can use it to find the standard deviation of
+ * numbers:</p>
+ *
+ * <pre>
+ * double dev = Math.sqrt(new VarianceOf(numbers).doubleValue());
+ * </pre>
+ *
+ * <p>The variance is found in one pass with Welford's algorithm, only once,
+ * and then cached, see {@link Summary}. It's zero if there are no
+ * numbers.</p>
+ *
+ * <p>Objects of this class are thread safe, if the source is.
+ *
+ * @since 1.0
+ */
+public final class VarianceOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 6354398740715532165L;
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public VarianceOf(final Iterable<? extends Number> src) {
+        this(new Summary(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Summary of numbers
+     */
+    public VarianceOf(final Summary src) {
+        super(new NumberOfScalars(src::variance));
+    }
+}
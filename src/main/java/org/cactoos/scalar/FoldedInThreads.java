@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Iterable, which elements are "folded" through the func, in multiple
+ * threads.
+ *
+ * <p>The usage is similar to {@link Folded}, but the iterable is split
+ * into parts by its {@link java.util.Spliterator}, each part is folded,
+ * starting from the input, in the common fork-join pool (or the given
+ * executor), and then results of parts are combined in their order:</p>
+ *
+ * <pre>{@code
+ * final long total = new FoldedInThreads<>(
+ *     0L,
+ *     (sum, text) -> sum + text.length(),
+ *     Long::sum,
+ *     lines
+ * ).value();
+ * }</pre>
+ *
+ * <p>The input must be the identity of the combining function, and the
+ * combining function must be associative. Sources smaller than the
+ * threshold, 8192 items by default, are folded in the calling thread.
+ * Array and list backed sources are split the best.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input and output
+ * @param <T> Type of element
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedInThreads<X, T> implements Scalar<X> {
+
+    /**
+     * The folding.
+     */
+    private final Scalar<X> origin;
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func to fold an item into a result
+     * @param cmb Func to combine two results
+     * @param list Array of items
+     */
+    @SafeVarargs
+    public FoldedInThreads(final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final T... list) {
+        this(ipt, fnc, cmb, new IterableOf<>(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func to fold an item into a result
+     * @param cmb Func to combine two results
+     * @param list List of items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FoldedInThreads(final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Iterable<? extends T> list) {
+        this(ForkJoinPool.commonPool(), 8192, ipt, fnc, cmb, list);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executor to fold parts in
+     * @param threshold Minimum number of items in a part
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func to fold an item into a result
+     * @param cmb Func to combine two results
+     * @param list List of items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FoldedInThreads(final ExecutorService svc, final int threshold,
+        final X ipt, final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Iterable<? extends T> list) {
+        this.origin = new ForkJoined<T, X>(
+            svc, threshold, list,
+            iter -> {
+                X memo = ipt;
+                while (iter.hasNext()) {
+                    memo = fnc.apply(memo, iter.next());
+                }
+                return memo;
+            },
+            cmb,
+            () -> ipt
+        );
+    }
+
+    @Override
+    public X value() throws Exception {
+        return this.origin.value();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Items split into parts, which are aggregated in multiple threads.
+ *
+ * <p>The spliterator of the source is split into parts of about the
+ * given threshold, but no more than four parts per processor. The first
+ * part is aggregated in the calling thread and others by the executor,
+ * then the results are combined in the calling thread, in the order of
+ * parts, so the combining function must only be
+ * associative. If the source is smaller than the threshold or can't be
+ * split, it's aggregated in the calling thread.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items
+ * @param <X> Type of result
+ * @since 1.0
+ */
+final class ForkJoined<T, X> implements Scalar<X> {
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService service;
+
+    /**
+     * Minimum size of a part.
+     */
+    private final int threshold;
+
+    /**
+     * The items.
+     */
+    private final Iterable<? extends T> items;
+
+    /**
+     * Aggregation of a non-empty part.
+     */
+    private final Func<Iterator<? extends T>, X> part;
+
+    /**
+     * Combination of results of two parts.
+     */
+    private final BiFunc<? super X, ? super X, ? extends X> combiner;
+
+    /**
+     * Result if there are no items.
+     */
+    private final Scalar<? extends X> empty;
+
+    /**
+     * Ctor.
+     * @param svc The executor
+     * @param thr Minimum size of a part
+     * @param src The items
+     * @param prt Aggregation of a non-empty part
+     * @param cmb Combination of results of two parts
+     * @param emp Result if there are no items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ForkJoined(final ExecutorService svc, final int thr,
+        final Iterable<? extends T> src,
+        final Func<Iterator<? extends T>, X> prt,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Scalar<? extends X> emp) {
+        if (thr < 1) {
+            throw new IllegalArgumentException(
+                String.format("Threshold must be positive: %d", thr)
+            );
+        }
+        this.service = svc;
+        this.threshold = thr;
+        this.items = src;
+        this.part = prt;
+        this.combiner = cmb;
+        this.empty = emp;
+    }
+
+    @Override
+    public X value() throws Exception {
+        final Spliterator<? extends T> all = this.items.spliterator();
+        final List<Spliterator<? extends T>> parts = new ArrayList<>(0);
+        final long size = all.getExactSizeIfKnown();
+        if (size >= 0L && size < this.threshold) {
+            parts.add(all);
+        } else {
+            this.split(
+                all,
+                Integer.SIZE - Integer.numberOfLeadingZeros(
+                    Runtime.getRuntime().availableProcessors() * 4 - 1
+                ),
+                parts
+            );
+        }
+        boolean found = false;
+        X result = null;
+        for (final List<X> res : this.aggregated(parts)) {
+            if (!res.isEmpty()) {
+                if (found) {
+                    result = this.combiner.apply(result, res.get(0));
+                } else {
+                    result = res.get(0);
+                    found = true;
+                }
+            }
+        }
+        if (!found) {
+            result = this.empty.value();
+        }
+        return result;
+    }
+
+    /**
+     * Split items into ordered parts.
+     * @param items The items
+     * @param depth How many times it still may be split
+     * @param parts Where to put parts
+     */
+    private void split(final Spliterator<? extends T> items, final int depth,
+        final List<Spliterator<? extends T>> parts) {
+        Spliterator<? extends T> prefix = null;
+        if (depth > 0 && items.estimateSize() >= 2L * this.threshold) {
+            prefix = items.trySplit();
+        }
+        if (prefix == null) {
+            parts.add(items);
+        } else {
+            this.split(prefix, depth - 1, parts);
+            this.split(items, depth - 1, parts);
+        }
+    }
+
+    /**
+     * Aggregate parts, the first one in the calling thread and others
+     * in the executor.
+     * @param parts The parts
+     * @return Results of parts, in order
+     * @throws Exception If fails
+     */
+    private List<List<X>> aggregated(
+        final List<Spliterator<? extends T>> parts) throws Exception {
+        final List<Future<List<X>>> futures = new ArrayList<>(parts.size());
+        try {
+            for (final Spliterator<? extends T> prt
+                : parts.subList(1, parts.size())) {
+                futures.add(this.service.submit(() -> this.aggregated(prt)));
+            }
+            final List<List<X>> results = new ArrayList<>(parts.size());
+            results.add(this.aggregated(parts.get(0)));
+            for (final Future<List<X>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        } finally {
+            for (final Future<List<X>> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Aggregate one part.
+     * @param prt The part
+     * @return Empty list if the part is empty, or its result
+     * @throws Exception If fails
+     */
+    private List<X> aggregated(final Spliterator<? extends T> prt)
+        throws Exception {
+        final Iterator<? extends T> iter = Spliterators.iterator(prt);
+        final List<X> result;
+        if (iter.hasNext()) {
+            result = Collections.singletonList(this.part.apply(iter));
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+}
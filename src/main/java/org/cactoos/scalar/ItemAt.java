@@ -24,7 +24,9 @@
 package org.cactoos.scalar;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
@@ -35,6 +37,8 @@ import org.cactoos.text.FormattedText;
  * Element from position in {@link Iterable}
  * or fallback value if iterable doesn't have this position.
  *
+ * <p>Items of lists are taken by their index, without iterating.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Scalar type
@@ -106,16 +110,27 @@ public final class ItemAt<T> implements Scalar<T> {
                         ).asString()
                     );
                 }
-                final Iterator<? extends T> src = iterable.iterator();
-                int cur;
-                for (cur = 0; cur < position && src.hasNext(); ++cur) {
-                    src.next();
-                }
                 final T ret;
-                if (cur == position && src.hasNext()) {
-                    ret = src.next();
+                if (iterable instanceof List) {
+                    final List<? extends T> list = (List<? extends T>) iterable;
+                    if (position < list.size()) {
+                        ret = list.get(position);
+                    } else {
+                        ret = fallback.apply(
+                            new IterableOf<>(Collections.emptyIterator())
+                        );
+                    }
                 } else {
-                    ret = fallback.apply(new IterableOf<>(src));
+                    final Iterator<? extends T> src = iterable.iterator();
+                    int cur;
+                    for (cur = 0; cur < position && src.hasNext(); ++cur) {
+                        src.next();
+                    }
+                    if (cur == position && src.hasNext()) {
+                        ret = src.next();
+                    } else {
+                        ret = fallback.apply(new IterableOf<>(src));
+                    }
                 }
                 return ret;
             }
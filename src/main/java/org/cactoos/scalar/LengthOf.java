@@ -25,10 +25,13 @@
 package org.cactoos.scalar;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.BufferPool;
+import org.cactoos.io.ThreadLocalBufferPool;
 
 /**
  * Length.
@@ -42,15 +45,22 @@ public final class LengthOf extends ScalarEnvelope<Long> {
 
     /**
      * Ctor.
+     *
+     * <p>Sizes of collections are taken without iterating.</p>
+     *
      * @param items The array
      */
     public LengthOf(final Iterable<?> items) {
         this(() -> {
-            final Iterator<?> iterator = items.iterator();
             long size = 0;
-            while (iterator.hasNext()) {
-                iterator.next();
-                ++size;
+            if (items instanceof Collection) {
+                size = ((Collection<?>) items).size();
+            } else {
+                final Iterator<?> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    ++size;
+                }
             }
             return size;
         });
@@ -80,17 +90,27 @@ public final class LengthOf extends ScalarEnvelope<Long> {
      * @param max Buffer size
      */
     public LengthOf(final Input input, final int max) {
+        this(input, max, new ThreadLocalBufferPool());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param pool Pool of buffers
+     */
+    public LengthOf(final Input input, final int max, final BufferPool pool) {
         this(() -> {
             if (max == 0) {
                 throw new IllegalArgumentException(
                     "Cannot use a buffer limited to zero size"
                 );
             }
+            final byte[] buf = pool.take(max);
             try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
                 while (true) {
-                    final int len = stream.read(buf);
+                    final int len = stream.read(buf, 0, max);
                     if (len > 0) {
                         length += (long) len;
                     }
@@ -99,6 +119,8 @@ public final class LengthOf extends ScalarEnvelope<Long> {
                     }
                 }
                 return length;
+            } finally {
+                pool.release(buf);
             }
         });
     }
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Reduces iterable via associative BiFunc, in multiple threads.
+ *
+ * <p>The usage is similar to {@link Reduced}, but the iterable is split
+ * into parts by its {@link java.util.Spliterator}, each part is reduced
+ * in the common fork-join pool (or the given executor), and then results
+ * of parts are reduced in their order:</p>
+ *
+ * <pre>{@code
+ * final Long total = new ReducedInThreads<>(numbers, Long::sum).value();
+ * }</pre>
+ *
+ * <p>The function must be associative. Sources smaller than the
+ * threshold, 8192 items by default, are reduced in the calling thread.
+ * Array and list backed sources are split the best.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items
+ * @see Reduced
+ * @since 1.0
+ */
+public final class ReducedInThreads<T> implements Scalar<T> {
+
+    /**
+     * The reduction.
+     */
+    private final Scalar<T> origin;
+
+    /**
+     * Ctor.
+     * @param reduce Associative reducing function
+     * @param values Values to reduce
+     */
+    @SafeVarargs
+    public ReducedInThreads(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final T... values
+    ) {
+        this(new IterableOf<>(values), reduce);
+    }
+
+    /**
+     * Ctor.
+     * @param values Values to reduce
+     * @param reduce Associative reducing function
+     */
+    public ReducedInThreads(
+        final Iterable<? extends T> values,
+        final BiFunc<? super T, ? super T, ? extends T> reduce
+    ) {
+        this(ForkJoinPool.commonPool(), 8192, values, reduce);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executor to reduce parts in
+     * @param threshold Minimum number of items in a part
+     * @param values Values to reduce
+     * @param reduce Associative reducing function
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ReducedInThreads(
+        final ExecutorService svc, final int threshold,
+        final Iterable<? extends T> values,
+        final BiFunc<? super T, ? super T, ? extends T> reduce
+    ) {
+        this.origin = new ForkJoined<T, T>(
+            svc, threshold, values,
+            iter -> {
+                T acc = iter.next();
+                while (iter.hasNext()) {
+                    acc = reduce.apply(acc, iter.next());
+                }
+                return acc;
+            },
+            reduce,
+            () -> {
+                throw new NoSuchElementException(
+                    "Can't find first element in an empty iterable"
+                );
+            }
+        );
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.origin.value();
+    }
+}
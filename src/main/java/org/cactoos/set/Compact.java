@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.set;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Immutable set with open addressing.
+ *
+ * <p>Items are stored in one flat array, which is probed linearly, so
+ * there are no per-item node objects and lookups touch neighbouring
+ * memory. It is meant for large read-mostly sets built once.</p>
+ *
+ * <p>The table is built once, when the set is used for the first time.
+ * Items may not be NULL. All modifying methods of {@link java.util.Set}
+ * throw {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Objects of this class are immutable and thread-safe.</p>
+ *
+ * @param <T> Set type
+ * @since 1.0
+ */
+public final class Compact<T> extends AbstractSet<T> {
+
+    /**
+     * Items and empty slots.
+     */
+    private final Unchecked<Object[]> table;
+
+    /**
+     * How many items.
+     */
+    private final Unchecked<Integer> count;
+
+    /**
+     * Ctor.
+     * @param array An array of some elements
+     */
+    @SafeVarargs
+    public Compact(final T... array) {
+        this(new IterableOf<>(array));
+    }
+
+    /**
+     * Ctor.
+     * @param src An {@link Iterable}
+     */
+    public Compact(final Iterable<? extends T> src) {
+        this(() -> Compact.filled(src));
+    }
+
+    /**
+     * Ctor.
+     * @param slots Makes items and empty slots
+     */
+    private Compact(final Scalar<Object[]> slots) {
+        super();
+        this.table = new Unchecked<>(new Solid<>(slots));
+        this.count = new Unchecked<>(
+            new Solid<>(() -> Compact.counted(this.table.value()))
+        );
+    }
+
+    @Override
+    public boolean contains(final Object item) {
+        boolean found = false;
+        if (item != null) {
+            final Object[] slots = this.table.value();
+            found = slots[Compact.position(slots, item)] != null;
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return this.count.value();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Compact.Cursor<>(this.table.value());
+    }
+
+    /**
+     * Fill the table with items.
+     * @param src Items
+     * @param <T> Type of items
+     * @return Items and empty slots
+     */
+    private static <T> Object[] filled(final Iterable<? extends T> src) {
+        final Collection<? extends T> items;
+        if (src instanceof Collection) {
+            items = (Collection<? extends T>) src;
+        } else {
+            final Collection<T> copy = new ArrayList<>(0);
+            src.forEach(copy::add);
+            items = copy;
+        }
+        final Object[] slots = new Object[
+            Integer.highestOneBit(Math.max(1, items.size()) * 2 - 1) * 2
+        ];
+        for (final T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Item may not be NULL");
+            }
+            slots[Compact.position(slots, item)] = item;
+        }
+        return slots;
+    }
+
+    /**
+     * How many items are in the table.
+     * @param slots Items and empty slots
+     * @return Number of items
+     */
+    private static int counted(final Object[] slots) {
+        int size = 0;
+        for (final Object slot : slots) {
+            if (slot != null) {
+                ++size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Position of the item in the table, or of the empty slot to put it.
+     * @param slots Items and empty slots
+     * @param item The item
+     * @return Position
+     */
+    private static int position(final Object[] slots, final Object item) {
+        final int mask = slots.length - 1;
+        int hash = item.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        int idx = hash & mask;
+        while (slots[idx] != null && !slots[idx].equals(item)) {
+            idx = idx + 1 & mask;
+        }
+        return idx;
+    }
+
+    /**
+     * Iterator over items of the table.
+     * @param <T> Type of items
+     * @since 1.0
+     */
+    private static final class Cursor<T> implements Iterator<T> {
+
+        /**
+         * Items and empty slots.
+         */
+        private final Object[] table;
+
+        /**
+         * Position of the next item, or the length of the table.
+         */
+        private int position;
+
+        /**
+         * Ctor.
+         * @param slots Items and empty slots
+         */
+        Cursor(final Object[] slots) {
+            this.table = slots;
+            this.position = this.skipped(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.position < this.table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more items");
+            }
+            final T item = (T) this.table[this.position];
+            this.position = this.skipped(this.position + 1);
+            return item;
+        }
+
+        /**
+         * Position of the first item at or after this one.
+         * @param start Where to start
+         * @return Position of the item, or the length of the table
+         */
+        private int skipped(final int start) {
+            int pos = start;
+            while (pos < this.table.length && this.table[pos] == null) {
+                ++pos;
+            }
+            return pos;
+        }
+    }
+}
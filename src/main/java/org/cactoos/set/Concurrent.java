@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.set;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Concurrent set.
+ *
+ * <p>Items are kept as keys of a {@link ConcurrentHashMap}, so readers
+ * never block and writers don't block each other unless they touch the
+ * same bins. Items may not be NULL.</p>
+ *
+ * <p>Objects of this class are thread-safe.</p>
+ *
+ * @param <T> Set type
+ * @since 1.0
+ */
+public final class Concurrent<T> extends SetEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param array An array of some elements
+     */
+    @SafeVarargs
+    public Concurrent(final T... array) {
+        this(new IterableOf<>(array));
+    }
+
+    /**
+     * Ctor.
+     * @param src An {@link Iterable}
+     */
+    public Concurrent(final Iterable<? extends T> src) {
+        super(Concurrent.make(src));
+    }
+
+    /**
+     * Copy items into a concurrent set.
+     * @param src Items
+     * @param <T> Type of items
+     * @return Set created
+     */
+    private static <T> Set<T> make(final Iterable<? extends T> src) {
+        final Set<T> set = ConcurrentHashMap.newKeySet();
+        src.forEach(set::add);
+        return set;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Locale;
+import org.cactoos.Func;
+
+/**
+ * Case conversion with a fast path for ASCII strings.
+ *
+ * <p>Strings of ASCII chars are converted with branch-free arithmetic
+ * over a char array, in loops the JIT may vectorize. Other strings,
+ * and strings in locales with special rules for ASCII letters,
+ * are converted by the fallback.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class AsciiCase implements Func<String, String> {
+
+    /**
+     * Shift of ASCII lower case letters from upper case ones.
+     */
+    private static final int SHIFT = 5;
+
+    /**
+     * Lower case letters are made upper case.
+     */
+    private final boolean upper;
+
+    /**
+     * Upper case letters are made lower case.
+     */
+    private final boolean lower;
+
+    /**
+     * Conversion of non ASCII strings.
+     */
+    private final Func<String, String> fallback;
+
+    /**
+     * May ASCII strings be converted without the fallback?
+     */
+    private final boolean fast;
+
+    /**
+     * Ctor.
+     * @param upr Make letters upper case, otherwise lower case
+     * @param locale The locale
+     */
+    AsciiCase(final boolean upr, final Locale locale) {
+        this(
+            upr,
+            !upr,
+            str -> {
+                final String res;
+                if (upr) {
+                    res = str.toUpperCase(locale);
+                } else {
+                    res = str.toLowerCase(locale);
+                }
+                return res;
+            },
+            !AsciiCase.special(locale)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param upr Make lower case letters upper case
+     * @param lwr Make upper case letters lower case
+     * @param fbk Conversion of non ASCII strings
+     */
+    AsciiCase(final boolean upr, final boolean lwr,
+        final Func<String, String> fbk) {
+        this(upr, lwr, fbk, true);
+    }
+
+    /**
+     * Ctor.
+     * @param upr Make lower case letters upper case
+     * @param lwr Make upper case letters lower case
+     * @param fbk Conversion of non ASCII strings
+     * @param ascii May ASCII strings be converted without the fallback
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    AsciiCase(final boolean upr, final boolean lwr,
+        final Func<String, String> fbk, final boolean ascii) {
+        this.upper = upr;
+        this.lower = lwr;
+        this.fallback = fbk;
+        this.fast = ascii;
+    }
+
+    @Override
+    public String apply(final String str) throws Exception {
+        int bits = 0;
+        for (int idx = 0; idx < str.length(); ++idx) {
+            bits |= str.charAt(idx);
+        }
+        final String res;
+        if (bits >= 0x80 || !this.fast) {
+            res = this.fallback.apply(str);
+        } else {
+            final char[] chars = str.toCharArray();
+            for (int idx = 0; idx < chars.length; ++idx) {
+                final int chr = chars[idx];
+                int delta = 0;
+                if (this.lower) {
+                    delta += ('A' - 1 - chr & chr - 'Z' - 1) >>> 31;
+                }
+                if (this.upper) {
+                    delta -= ('a' - 1 - chr & chr - 'z' - 1) >>> 31;
+                }
+                chars[idx] = (char) (chr + (delta << AsciiCase.SHIFT));
+            }
+            res = new String(chars);
+        }
+        return res;
+    }
+
+    /**
+     * Does the locale have special rules for ASCII letters?
+     * @param locale The locale
+     * @return TRUE if it does
+     */
+    private static boolean special(final Locale locale) {
+        final String lang = locale.getLanguage();
+        return "tr".equals(lang) || "az".equals(lang) || "lt".equals(lang);
+    }
+}
@@ -24,7 +24,6 @@
 package org.cactoos.text;
 
 import org.cactoos.Text;
-import org.cactoos.scalar.Unchecked;
 
 /**
  * Text implementing Comparable.<br>
@@ -55,8 +54,8 @@ public final class ComparableText extends TextEnvelope
 
     @Override
     public int compareTo(final Text other) {
-        return new Unchecked<>(
-            () -> this.asString().compareTo(other.asString())
-        ).value();
+        return new UncheckedText(this).asString().compareTo(
+            new UncheckedText(other).asString()
+        );
     }
 }
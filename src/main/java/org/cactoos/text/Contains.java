@@ -23,11 +23,12 @@
  */
 package org.cactoos.text;
 
+import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
 
 /**
- * Tests if this Text contains other Text.
+ * Tests if this Text contains other Text, or any of {@link Keywords}.
  *
  * @since 1.0
  */
@@ -39,9 +40,9 @@ public final class Contains implements Scalar<Boolean> {
     private final Text origin;
 
     /**
-     * The other.
+     * The search.
      */
-    private final Text other;
+    private final Func<String, Boolean> search;
 
     /**
      * Ctor.
@@ -76,12 +77,39 @@ public final class Contains implements Scalar<Boolean> {
      * @param other The other
      */
     public Contains(final Text origin, final Text other) {
+        this(origin, str -> str.contains(other.asString()));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param words The keywords to find
+     */
+    public Contains(final CharSequence origin, final Keywords words) {
+        this(new TextOf(origin), words);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param words The keywords to find
+     */
+    public Contains(final Text origin, final Keywords words) {
+        this(origin, words::foundIn);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param search The search
+     */
+    private Contains(final Text origin, final Func<String, Boolean> search) {
         this.origin = origin;
-        this.other = other;
+        this.search = search;
     }
 
     @Override
     public Boolean value() throws Exception {
-        return this.origin.asString().contains(this.other.asString());
+        return this.search.apply(this.origin.asString());
     }
 }
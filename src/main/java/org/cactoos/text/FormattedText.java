@@ -123,6 +123,34 @@ public final class FormattedText extends TextEnvelope {
         this(new TextOf(ptn), locale, arguments);
     }
 
+    /**
+     * New formatted string of a compiled template.
+     *
+     * @param tpl Template
+     * @param arguments Arguments
+     */
+    public FormattedText(final Template tpl, final Object... arguments) {
+        this(tpl, new ListOf<>(arguments));
+    }
+
+    /**
+     * New formatted string of a compiled template.
+     *
+     * @param tpl Template
+     * @param args Arguments
+     */
+    public FormattedText(final Template tpl, final Collection<?> args) {
+        super(
+            new TextOfScalar(
+                () -> {
+                    final StringBuilder out = new StringBuilder();
+                    tpl.render(out, args.toArray());
+                    return out.toString();
+                }
+            )
+        );
+    }
+
     /**
      * New formatted string with specified locale.
      *
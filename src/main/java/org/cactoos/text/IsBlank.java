@@ -29,6 +29,9 @@ import org.cactoos.Text;
 /**
  * Determines if text is blank (consists of spaces) or not.
  *
+ * <p>ASCII chars are checked without {@link Character#isWhitespace(char)},
+ * and the check stops at the first char that is not a space.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * @see IsEmpty
  * @since 0.1
@@ -50,7 +53,30 @@ public final class IsBlank implements Scalar<Boolean> {
 
     @Override
     public Boolean value() throws Exception {
-        return this.origin.asString().chars()
-            .allMatch(Character::isWhitespace);
+        final String str = this.origin.asString();
+        boolean blank = true;
+        for (int idx = 0; idx < str.length(); ++idx) {
+            if (!IsBlank.space(str.charAt(idx))) {
+                blank = false;
+                break;
+            }
+        }
+        return blank;
+    }
+
+    /**
+     * Is it a white space, as {@link Character#isWhitespace(char)} says?
+     * @param chr The char
+     * @return TRUE if it is
+     */
+    private static boolean space(final char chr) {
+        final boolean space;
+        if (chr < 0x80) {
+            space = chr == ' ' || chr >= '\t' && chr <= '\r'
+                || chr >= 0x1C && chr <= 0x1F;
+        } else {
+            space = Character.isWhitespace(chr);
+        }
+        return space;
     }
 }
@@ -23,7 +23,8 @@
  */
 package org.cactoos.text;
 
-import java.util.StringJoiner;
+import java.util.ArrayList;
+import java.util.List;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -31,6 +32,11 @@ import org.cactoos.iterable.Mapped;
 /**
  * Join a Text.
  *
+ * <p>The texts are joined into a {@link Rope}, which doesn't copy them,
+ * so a chain of decorators like {@link Sub} and {@link Concatenated}
+ * copies the chars only once, when the outermost text is turned into a
+ * string.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.9
@@ -85,11 +91,15 @@ public final class Joined extends TextEnvelope {
         super(
             new TextOf(
                 () -> {
-                    final StringJoiner joint = new StringJoiner(delimit.asString());
+                    final CharSequence delim = new ViewOf(delimit).value();
+                    final List<CharSequence> parts = new ArrayList<>(0);
                     for (final Text text : txts) {
-                        joint.add(text.asString());
+                        if (!parts.isEmpty()) {
+                            parts.add(delim);
+                        }
+                        parts.add(new ViewOf(text).value());
                     }
-                    return joint.toString();
+                    return new Rope(parts);
                 }
             )
         );
@@ -0,0 +1,403 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Set of keywords, compiled into an Aho-Corasick automaton.
+ *
+ * <p>The automaton finds all keywords in one pass over a text, no matter
+ * how many keywords there are. It is built only once, when it is used for
+ * the first time, and may be reused for many texts:</p>
+ *
+ * <pre> final Keywords words = new Keywords("error", "fatal", "panic");
+ * for (final Text line : lines) {
+ *   if (new Contains(line, words).value()) {
+ *     // report the line
+ *   }
+ * }</pre>
+ *
+ * <p>It is used by {@link Contains}, {@link Replaced} and
+ * {@link Occurrences}.</p>
+ *
+ * <p>Objects of this class are thread safe.
+ *
+ * @since 1.0
+ */
+public final class Keywords {
+
+    /**
+     * The automaton, built only once.
+     */
+    private final Unchecked<Keywords.Automaton> automaton;
+
+    /**
+     * Ctor.
+     * @param kwds The keywords
+     */
+    public Keywords(final CharSequence... kwds) {
+        this(new IterableOf<>(kwds));
+    }
+
+    /**
+     * Ctor.
+     * @param kwds The keywords
+     */
+    public Keywords(final Iterable<? extends CharSequence> kwds) {
+        this.automaton = new Unchecked<>(
+            new org.cactoos.scalar.Solid<>(() -> new Keywords.Automaton(kwds))
+        );
+    }
+
+    /**
+     * Is any of keywords found in the text?
+     * @param text The text
+     * @return TRUE if found
+     */
+    boolean foundIn(final CharSequence text) {
+        final Keywords.Automaton auto = this.automaton.value();
+        int state = 0;
+        boolean found = false;
+        for (int idx = 0; idx < text.length(); ++idx) {
+            state = auto.next(state, text.charAt(idx));
+            if (auto.word[state] >= 0 || auto.dict[state] > 0) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * All occurrences of keywords in the text, in the order they end.
+     * @param text The text
+     * @return Positions of occurrences and keywords found there
+     */
+    Iterator<Map.Entry<Integer, String>> occurrences(final CharSequence text) {
+        return new Keywords.Scan(this.automaton.value(), text);
+    }
+
+    /**
+     * Replace keywords in the text, the leftmost and the longest first.
+     * @param text The text
+     * @param func Makes a replacement of a keyword
+     * @return The result
+     * @throws Exception If fails
+     */
+    String replaced(final String text,
+        final Func<? super String, ? extends CharSequence> func)
+        throws Exception {
+        final Keywords.Automaton auto = this.automaton.value();
+        final int[] longest = new int[text.length()];
+        boolean found = false;
+        int state = 0;
+        for (int idx = 0; idx < text.length(); ++idx) {
+            state = auto.next(state, text.charAt(idx));
+            for (int hit = state; hit > 0; hit = auto.dict[hit]) {
+                if (auto.word[hit] >= 0) {
+                    final int len = auto.needles[auto.word[hit]].length();
+                    final int start = idx - len + 1;
+                    longest[start] = Math.max(longest[start], len);
+                    found = true;
+                }
+            }
+        }
+        String out = text;
+        if (found) {
+            final StringBuilder buf = new StringBuilder(text.length());
+            int idx = 0;
+            while (idx < text.length()) {
+                if (longest[idx] > 0) {
+                    buf.append(
+                        func.apply(text.substring(idx, idx + longest[idx]))
+                    );
+                    idx += longest[idx];
+                } else {
+                    buf.append(text.charAt(idx));
+                    ++idx;
+                }
+            }
+            out = buf.toString();
+        }
+        return out;
+    }
+
+    /**
+     * Aho-Corasick automaton.
+     *
+     * <p>Transitions of each state are kept in flat sorted arrays and
+     * are found with a binary search.</p>
+     *
+     * @since 1.0
+     */
+    private static final class Automaton {
+
+        /**
+         * The keywords.
+         */
+        private final String[] needles;
+
+        /**
+         * Where transitions of each state start.
+         */
+        private final int[] first;
+
+        /**
+         * Labels of transitions.
+         */
+        private final char[] labels;
+
+        /**
+         * Targets of transitions.
+         */
+        private final int[] targets;
+
+        /**
+         * Failure links.
+         */
+        private final int[] fail;
+
+        /**
+         * Keyword ending in each state, or -1.
+         */
+        private final int[] word;
+
+        /**
+         * The nearest state in the failure chain with a keyword, or 0.
+         */
+        private final int[] dict;
+
+        /**
+         * Ctor.
+         * @param kwds The keywords
+         */
+        Automaton(final Iterable<? extends CharSequence> kwds) {
+            final List<String> all = new ArrayList<>(0);
+            final List<TreeMap<Character, Integer>> trie = new ArrayList<>(1);
+            final List<Integer> ends = new ArrayList<>(1);
+            trie.add(new TreeMap<>());
+            ends.add(-1);
+            for (final CharSequence kwd : kwds) {
+                if (kwd.length() == 0) {
+                    throw new IllegalArgumentException(
+                        "Keywords must not be empty"
+                    );
+                }
+                int state = 0;
+                for (int idx = 0; idx < kwd.length(); ++idx) {
+                    final Integer next = trie.get(state).get(kwd.charAt(idx));
+                    if (next == null) {
+                        trie.get(state).put(kwd.charAt(idx), trie.size());
+                        state = trie.size();
+                        trie.add(new TreeMap<>());
+                        ends.add(-1);
+                    } else {
+                        state = next;
+                    }
+                }
+                if (ends.get(state) < 0) {
+                    ends.set(state, all.size());
+                    all.add(kwd.toString());
+                }
+            }
+            this.needles = all.toArray(new String[0]);
+            final int size = trie.size();
+            this.first = new int[size + 1];
+            for (int state = 0; state < size; ++state) {
+                this.first[state + 1] = this.first[state]
+                    + trie.get(state).size();
+            }
+            this.labels = new char[this.first[size]];
+            this.targets = new int[this.first[size]];
+            this.word = new int[size];
+            for (int state = 0; state < size; ++state) {
+                int pos = this.first[state];
+                for (final Map.Entry<Character, Integer> edge
+                    : trie.get(state).entrySet()) {
+                    this.labels[pos] = edge.getKey();
+                    this.targets[pos] = edge.getValue();
+                    ++pos;
+                }
+                this.word[state] = ends.get(state);
+            }
+            this.fail = new int[size];
+            this.dict = new int[size];
+            this.link(size);
+        }
+
+        /**
+         * The state after the char.
+         * @param from The current state
+         * @param chr The char
+         * @return The next state
+         */
+        int next(final int from, final char chr) {
+            int state = from;
+            int next = this.edge(state, chr);
+            while (next < 0 && state > 0) {
+                state = this.fail[state];
+                next = this.edge(state, chr);
+            }
+            return Math.max(next, 0);
+        }
+
+        /**
+         * Build failure and dictionary links, in breadth-first order.
+         * @param size Number of states
+         */
+        private void link(final int size) {
+            final int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            for (int pos = this.first[0]; pos < this.first[1]; ++pos) {
+                queue[tail] = this.targets[pos];
+                ++tail;
+            }
+            while (head < tail) {
+                final int state = queue[head];
+                ++head;
+                for (int pos = this.first[state]; pos < this.first[state + 1];
+                    ++pos) {
+                    final int child = this.targets[pos];
+                    final int link = this.next(
+                        this.fail[state], this.labels[pos]
+                    );
+                    this.fail[child] = link;
+                    if (this.word[link] >= 0) {
+                        this.dict[child] = link;
+                    } else {
+                        this.dict[child] = this.dict[link];
+                    }
+                    queue[tail] = child;
+                    ++tail;
+                }
+            }
+        }
+
+        /**
+         * Direct transition.
+         * @param state The state
+         * @param chr The char
+         * @return Target state or -1 if there is no transition
+         */
+        private int edge(final int state, final char chr) {
+            int low = this.first[state];
+            int high = this.first[state + 1] - 1;
+            int target = -1;
+            while (low <= high) {
+                final int mid = low + high >>> 1;
+                if (this.labels[mid] < chr) {
+                    low = mid + 1;
+                } else if (this.labels[mid] > chr) {
+                    high = mid - 1;
+                } else {
+                    target = this.targets[mid];
+                    break;
+                }
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Iterator over occurrences of keywords.
+     * @since 1.0
+     */
+    private static final class Scan
+        implements Iterator<Map.Entry<Integer, String>> {
+
+        /**
+         * The automaton.
+         */
+        private final Keywords.Automaton auto;
+
+        /**
+         * The text.
+         */
+        private final CharSequence text;
+
+        /**
+         * Position of the next char to read.
+         */
+        private int index;
+
+        /**
+         * Current state.
+         */
+        private int state;
+
+        /**
+         * The next state in the dictionary chain to report, or 0.
+         */
+        private int hit;
+
+        /**
+         * Ctor.
+         * @param atm The automaton
+         * @param txt The text
+         */
+        Scan(final Keywords.Automaton atm, final CharSequence txt) {
+            this.auto = atm;
+            this.text = txt;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.hit == 0 && this.index < this.text.length()) {
+                this.state = this.auto.next(
+                    this.state, this.text.charAt(this.index)
+                );
+                ++this.index;
+                if (this.auto.word[this.state] >= 0) {
+                    this.hit = this.state;
+                } else {
+                    this.hit = this.auto.dict[this.state];
+                }
+            }
+            return this.hit > 0;
+        }
+
+        @Override
+        public Map.Entry<Integer, String> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "No more keywords in the text"
+                );
+            }
+            final String found = this.auto.needles[this.auto.word[this.hit]];
+            this.hit = this.auto.dict[this.hit];
+            return new MapEntry<>(this.index - found.length(), found);
+        }
+    }
+}
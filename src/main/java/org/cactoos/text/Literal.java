@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+
+/**
+ * The literal string a pattern matches, or an empty string if the
+ * pattern is a real regular expression.
+ *
+ * <p>It is used to find delimiters and substrings with a plain search,
+ * when the regex engine is not needed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Literal implements Text {
+
+    /**
+     * Regex meta characters.
+     */
+    private static final String META = ".$|()[]{}^?*+\\";
+
+    /**
+     * The pattern.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Ctor.
+     * @param ptn The pattern
+     */
+    Literal(final Pattern ptn) {
+        this.pattern = ptn;
+    }
+
+    @Override
+    public String asString() {
+        final String src = this.pattern.pattern();
+        String lit = "";
+        if (this.pattern.flags() == Pattern.LITERAL) {
+            lit = src;
+        } else if (this.pattern.flags() == 0) {
+            lit = src;
+            for (int idx = 0; idx < src.length(); ++idx) {
+                if (Literal.META.indexOf(src.charAt(idx)) >= 0) {
+                    lit = "";
+                    break;
+                }
+            }
+        }
+        return lit;
+    }
+}
@@ -57,6 +57,6 @@ public final class Lowered extends TextEnvelope {
      * @param locale The locale
      */
     public Lowered(final Text text, final Locale locale) {
-        super(new Mapped(str -> str.toLowerCase(locale), text));
+        super(new Mapped(new AsciiCase(false, locale), text));
     }
 }
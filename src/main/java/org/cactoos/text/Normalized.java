@@ -23,6 +23,7 @@
  */
 package org.cactoos.text;
 
+import java.util.regex.Pattern;
 import org.cactoos.Text;
 
 /**
@@ -33,6 +34,11 @@ import org.cactoos.Text;
  */
 public final class Normalized extends TextEnvelope {
 
+    /**
+     * Sequences of whitespace characters.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
     /**
      * Ctor.
      * @param text A Text
@@ -49,8 +55,8 @@ public final class Normalized extends TextEnvelope {
         super(
             new Replaced(
                 new Trimmed(text),
-                "\\s+",
-                " "
+                () -> Normalized.SPACES,
+                matcher -> " "
             )
         );
     }
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Map;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Occurrences of {@link Keywords} in a text.
+ *
+ * <p>All keywords are found in one pass over the text, including
+ * overlapping ones. Each occurrence is a position where the keyword starts
+ * and the keyword itself, they come in the order they end in the text:</p>
+ *
+ * <pre> for (final Map.Entry&lt;Integer, String&gt; found
+ *   : new Occurrences(line, new Keywords("he", "she", "hers"))) {
+ *   // "she" at 0, "he" at 1, "hers" at 1 for "shers"
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Occurrences
+    extends IterableEnvelope<Map.Entry<Integer, String>> {
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param words The keywords
+     */
+    public Occurrences(final CharSequence text, final Keywords words) {
+        super(new IterableOf<>(() -> words.occurrences(text)));
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param words The keywords
+     */
+    public Occurrences(final Text text, final Keywords words) {
+        super(new IterableOf<>(() -> words.occurrences(text.asString())));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.cactoos.Scalar;
+
+/**
+ * Random text of chars of an alphabet, made fast, for identifiers.
+ *
+ * <p>The alphabet is copied into an array only once and a few chars are
+ * taken from every random {@code long}, without bias. By default
+ * {@link ThreadLocalRandom} is used, so it is cheap to generate many
+ * identifiers in many threads, but they must not be used where
+ * unpredictability matters, like in passwords or session keys. For them,
+ * provide a {@link java.security.SecureRandom}:</p>
+ *
+ * <pre> final Text id = new RandomId();
+ * id.asString(); // "dV3x_r9LQkq0Zs-7nWuY2c"
+ * id.asString(); // another one</pre>
+ *
+ * <p>Every evaluation gives a new text.</p>
+ *
+ * <p>Objects of this class are thread safe, if the randomizer is.
+ *
+ * @see Randomized
+ * @since 1.0
+ */
+public final class RandomId extends TextEnvelope {
+
+    /**
+     * URL-safe characters.
+     */
+    private static final String URL_SAFE =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    /**
+     * Ctor.
+     *
+     * <p>Makes 22 URL-safe chars, that is 132 random bits.</p>
+     */
+    public RandomId() {
+        this(22);
+    }
+
+    /**
+     * Ctor.
+     * @param len Length of the text
+     */
+    public RandomId(final int len) {
+        this(len, RandomId.URL_SAFE);
+    }
+
+    /**
+     * Ctor.
+     * @param len Length of the text
+     * @param alphabet Chars to make the text of
+     */
+    public RandomId(final int len, final CharSequence alphabet) {
+        this(len, alphabet, ThreadLocalRandom::current);
+    }
+
+    /**
+     * Ctor.
+     * @param len Length of the text
+     * @param alphabet Chars to make the text of
+     * @param rnd Randomizer to use for each text
+     */
+    public RandomId(final int len, final CharSequence alphabet,
+        final Scalar<? extends Random> rnd) {
+        this(len, alphabet.toString().toCharArray(), rnd);
+    }
+
+    /**
+     * Ctor.
+     * @param len Length of the text
+     * @param chars Chars to make the text of
+     * @param rnd Randomizer to use for each text
+     */
+    private RandomId(final int len, final char[] chars,
+        final Scalar<? extends Random> rnd) {
+        super(
+            new TextOf(
+                () -> {
+                    if (chars.length == 0) {
+                        throw new IllegalArgumentException(
+                            "The alphabet is empty"
+                        );
+                    }
+                    return new String(RandomId.random(len, chars, rnd.value()));
+                }
+            )
+        );
+    }
+
+    /**
+     * Random chars.
+     * @param len How many chars
+     * @param chars Chars to take
+     * @param rnd Randomizer
+     * @return Random chars
+     */
+    private static char[] random(final int len, final char[] chars,
+        final Random rnd) {
+        final char[] out = new char[len];
+        final int bits = Math.max(
+            1, Integer.SIZE - Integer.numberOfLeadingZeros(chars.length - 1)
+        );
+        final int mask = (1 << bits) - 1;
+        int pos = 0;
+        long draw = 0L;
+        int left = 0;
+        while (pos < len) {
+            if (left < bits) {
+                draw = rnd.nextLong();
+                left = Long.SIZE;
+            }
+            final int idx = (int) draw & mask;
+            draw >>>= bits;
+            left -= bits;
+            if (idx < chars.length) {
+                out[pos] = chars[idx];
+                ++pos;
+            }
+        }
+        return out;
+    }
+}
@@ -26,6 +26,7 @@ package org.cactoos.text;
 import java.security.SecureRandom;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.RangeOf;
 import org.cactoos.list.ListOf;
@@ -33,6 +34,10 @@ import org.cactoos.list.ListOf;
 /**
  * Randomized text.
  *
+ * <p>By default chars are taken with {@link SecureRandom}. To make
+ * many identifiers fast, where security does not matter,
+ * use {@link RandomId}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.32
@@ -49,7 +54,7 @@ public final class Randomized extends TextEnvelope {
      */
     public Randomized() {
         this(
-            () -> new SecureRandom().nextInt(
+            () -> ThreadLocalRandom.current().nextInt(
                 Randomized.MAX_RANDOM_LENGTH - 1
             ) + 1
         );
@@ -91,7 +96,7 @@ public final class Randomized extends TextEnvelope {
     public Randomized(final List<Character> chrs) {
         this(
             chrs,
-            () -> new SecureRandom().nextInt(
+            () -> ThreadLocalRandom.current().nextInt(
                 Randomized.MAX_RANDOM_LENGTH - 1
             ) + 1
         );
@@ -134,14 +139,17 @@ public final class Randomized extends TextEnvelope {
         super(
             new TextOf(
                 () -> {
-                    final List<Character> chrs = new ListOf<>(itr);
+                    final StringBuilder alphabet = new StringBuilder();
+                    for (final Character chr : itr) {
+                        alphabet.append(chr.charValue());
+                    }
                     final int length = len.value();
-                    final StringBuilder builder = new StringBuilder(length);
-                    final int bound = chrs.size();
+                    final char[] chars = new char[length];
+                    final int bound = alphabet.length();
                     for (int index = 0; index < length; index += 1) {
-                        builder.append(chrs.get(rnd.nextInt(bound)));
+                        chars[index] = alphabet.charAt(rnd.nextInt(bound));
                     }
-                    return builder.toString();
+                    return new String(chars);
                 }
             )
         );
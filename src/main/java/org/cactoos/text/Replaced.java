@@ -30,10 +30,16 @@ import java.util.regex.PatternSyntaxException;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.scalar.Sticky;
 
 /**
  * Replace the Text.
  *
+ * <p>The pattern is compiled only once per object. If the pattern
+ * has no regex meta characters and the replacement has no group
+ * references, the text is replaced with a plain search, without
+ * the regex engine.</p>
+ *
  * @since 0.2
  */
 public final class Replaced extends TextEnvelope {
@@ -52,7 +58,11 @@ public final class Replaced extends TextEnvelope {
         final CharSequence find,
         final CharSequence replace
     ) {
-        this(text, () -> Pattern.compile(find.toString()), matcher -> replace);
+        this(
+            text,
+            new Sticky<>(() -> Pattern.compile(find.toString())),
+            replace
+        );
     }
 
     /**
@@ -73,7 +83,8 @@ public final class Replaced extends TextEnvelope {
      * }</pre>
      * <p>
      * Note: a {@link PatternSyntaxException} will be thrown if the
-     * regular expression's syntax is invalid.
+     * regular expression's syntax is invalid. The pattern is taken
+     * from {@code regex} only once.
      * @param text The text
      * @param regex The regular expression
      * @param func Transforms the resulting matcher object into a replacement
@@ -83,23 +94,242 @@ public final class Replaced extends TextEnvelope {
         final Text text,
         final Scalar<Pattern> regex,
         final Func<? super Matcher, ? extends CharSequence> func
+    ) {
+        this(text, func, new Sticky<>(regex));
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Will replace all {@link Keywords} found in the text with
+     * {@code replace}, the leftmost and the longest first.
+     * @param text The text
+     * @param words The keywords
+     * @param replace The replacement string
+     */
+    public Replaced(
+        final Text text,
+        final Keywords words,
+        final CharSequence replace
+    ) {
+        this(text, words, word -> replace);
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Will replace all {@link Keywords} found in the text with what
+     * {@code func} makes of them, the leftmost and the longest first.
+     * All keywords are found in one pass.
+     * @param text The text
+     * @param words The keywords
+     * @param func Transforms a keyword into a replacement string
+     */
+    public Replaced(
+        final Text text,
+        final Keywords words,
+        final Func<? super String, ? extends CharSequence> func
+    ) {
+        super(new Mapped(str -> words.replaced(str, func), text));
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param func Transforms the resulting matcher into a replacement
+     * @param regex The regular expression
+     */
+    private Replaced(
+        final Text text,
+        final Func<? super Matcher, ? extends CharSequence> func,
+        final Scalar<Pattern> regex
+    ) {
+        super(
+            new Mapped(
+                str -> Replaced.regex(str, regex.value().matcher(str), func),
+                text
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param regex The regular expression
+     * @param replace The replacement string
+     */
+    private Replaced(
+        final Text text,
+        final Scalar<Pattern> regex,
+        final CharSequence replace
     ) {
         super(
             new Mapped(
                 str -> {
-                    final StringBuffer buffer = new StringBuffer();
-                    final Matcher matcher = regex.value().matcher(str);
-                    while (matcher.find()) {
-                        matcher.appendReplacement(
-                            buffer,
-                            func.apply(matcher).toString()
+                    final Pattern pattern = regex.value();
+                    final String find = new Literal(pattern).asString();
+                    final String rep = replace.toString();
+                    final String out;
+                    if (find.isEmpty() || rep.indexOf('$') >= 0
+                        || rep.indexOf('\\') >= 0) {
+                        out = Replaced.regex(
+                            str, pattern.matcher(str), matcher -> rep
                         );
+                    } else {
+                        out = Replaced.literal(str, find, rep);
                     }
-                    matcher.appendTail(buffer);
-                    return buffer.toString();
+                    return out;
                 },
                 text
             )
         );
     }
+
+    /**
+     * Replace all occurrences of a literal.
+     * @param str The string
+     * @param find The literal to find
+     * @param rep The replacement
+     * @return The result
+     */
+    private static String literal(final String str, final String find,
+        final String rep) {
+        int pos = str.indexOf(find);
+        String out = str;
+        if (pos >= 0) {
+            final StringBuilder buf = new StringBuilder(str.length());
+            int last = 0;
+            while (pos >= 0) {
+                buf.append(str, last, pos).append(rep);
+                last = pos + find.length();
+                pos = str.indexOf(find, last);
+            }
+            out = buf.append(str, last, str.length()).toString();
+        }
+        return out;
+    }
+
+    /**
+     * Replace all matches of a regex.
+     * @param str The string
+     * @param matcher The matcher
+     * @param func Replacement maker
+     * @return The result
+     * @throws Exception If fails
+     */
+    private static String regex(final String str, final Matcher matcher,
+        final Func<? super Matcher, ? extends CharSequence> func)
+        throws Exception {
+        String out = str;
+        if (matcher.find()) {
+            final StringBuilder buf = new StringBuilder(str.length());
+            int last = 0;
+            do {
+                buf.append(str, last, matcher.start());
+                Replaced.expand(buf, matcher, func.apply(matcher).toString());
+                last = matcher.end();
+            } while (matcher.find());
+            out = buf.append(str, last, str.length()).toString();
+        }
+        return out;
+    }
+
+    /**
+     * Append the replacement, with group references expanded, just like
+     * {@link Matcher#appendReplacement(StringBuffer, String)} does.
+     * @param buf Where to append
+     * @param matcher The matcher
+     * @param rep The replacement
+     */
+    private static void expand(final StringBuilder buf, final Matcher matcher,
+        final String rep) {
+        int pos = 0;
+        while (pos < rep.length()) {
+            final char chr = rep.charAt(pos);
+            if (chr == '\\') {
+                ++pos;
+                if (pos == rep.length()) {
+                    throw new IllegalArgumentException(
+                        "character to be escaped is missing"
+                    );
+                }
+                buf.append(rep.charAt(pos));
+                ++pos;
+            } else if (chr == '$') {
+                pos = Replaced.group(buf, matcher, rep, pos + 1);
+            } else {
+                buf.append(chr);
+                ++pos;
+            }
+        }
+    }
+
+    /**
+     * Append the group referenced in the replacement.
+     * @param buf Where to append
+     * @param matcher The matcher
+     * @param rep The replacement
+     * @param start Position right after the dollar sign
+     * @return Position right after the reference
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int group(final StringBuilder buf, final Matcher matcher,
+        final String rep, final int start) {
+        if (start == rep.length()) {
+            throw new IllegalArgumentException(
+                "Illegal group reference: group index is missing"
+            );
+        }
+        int pos = start;
+        final String group;
+        if (rep.charAt(pos) == '{') {
+            ++pos;
+            final int begin = pos;
+            while (pos < rep.length() && Replaced.ascii(rep.charAt(pos))) {
+                ++pos;
+            }
+            if (pos == begin) {
+                throw new IllegalArgumentException(
+                    "named capturing group has 0 length name"
+                );
+            }
+            if (pos == rep.length() || rep.charAt(pos) != '}') {
+                throw new IllegalArgumentException(
+                    "named capturing group is missing trailing '}'"
+                );
+            }
+            group = matcher.group(rep.substring(begin, pos));
+            ++pos;
+        } else {
+            int ref = rep.charAt(pos) - '0';
+            if (ref < 0 || ref > 9) {
+                throw new IllegalArgumentException("Illegal group reference");
+            }
+            ++pos;
+            while (pos < rep.length()) {
+                final int digit = rep.charAt(pos) - '0';
+                if (digit < 0 || digit > 9
+                    || matcher.groupCount() < ref * 10 + digit) {
+                    break;
+                }
+                ref = ref * 10 + digit;
+                ++pos;
+            }
+            group = matcher.group(ref);
+        }
+        if (group != null) {
+            buf.append(group);
+        }
+        return pos;
+    }
+
+    /**
+     * Is it an ASCII letter or digit?
+     * @param chr The char
+     * @return TRUE if it is
+     */
+    private static boolean ascii(final char chr) {
+        return chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z'
+            || chr >= '0' && chr <= '9';
+    }
 }
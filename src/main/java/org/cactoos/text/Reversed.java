@@ -28,6 +28,10 @@ import org.cactoos.Text;
 /**
  * Reverse the Text.
  *
+ * <p>Surrogate pairs are kept in their order, just like
+ * {@link StringBuilder#reverse()} does. Strings without surrogates are
+ * reversed in one pass.</p>
+ *
  * @since 0.2
  */
 public final class Reversed extends TextEnvelope {
@@ -40,7 +44,23 @@ public final class Reversed extends TextEnvelope {
     public Reversed(final Text text) {
         super(
             new Mapped(
-                string -> new StringBuilder(string).reverse().toString(),
+                string -> {
+                    final char[] chars = new char[string.length()];
+                    final int last = chars.length - 1;
+                    boolean pairs = false;
+                    for (int idx = 0; idx <= last; ++idx) {
+                        final char chr = string.charAt(idx);
+                        pairs |= Character.isSurrogate(chr);
+                        chars[last - idx] = chr;
+                    }
+                    final String res;
+                    if (pairs) {
+                        res = new StringBuilder(string).reverse().toString();
+                    } else {
+                        res = new String(chars);
+                    }
+                    return res;
+                },
                 text
             )
         );
@@ -0,0 +1,293 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.list.ListOf;
+
+/**
+ * Concatenation of char sequences, which never copies them.
+ *
+ * <p>{@link #charAt(int)} finds the part by binary search and
+ * {@link #subSequence(int, int)} returns a view of the same parts, so
+ * compositions of concatenations and slices cost nothing until
+ * {@link #toString()} flattens them into a string, once:</p>
+ *
+ * <pre> String text = new TextOf(
+ *   new Rope(header, body, footer).subSequence(10, 200)
+ * ).asString();</pre>
+ *
+ * <p>Parts must not change their lengths, since their offsets are
+ * calculated once in the constructor.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Rope implements CharSequence {
+
+    /**
+     * The parts.
+     */
+    private final CharSequence[] parts;
+
+    /**
+     * Offsets of the parts, the last one is the total length.
+     */
+    private final int[] offsets;
+
+    /**
+     * Ctor.
+     * @param seqs The parts
+     */
+    public Rope(final CharSequence... seqs) {
+        this.parts = seqs.clone();
+        this.offsets = new int[seqs.length + 1];
+        for (int idx = 0; idx < seqs.length; ++idx) {
+            this.offsets[idx + 1] = this.offsets[idx] + seqs[idx].length();
+        }
+    }
+
+    /**
+     * Ctor.
+     * @param seqs The parts
+     */
+    public Rope(final Iterable<? extends CharSequence> seqs) {
+        this(new ListOf<CharSequence>(seqs).toArray(new CharSequence[0]));
+    }
+
+    @Override
+    public int length() {
+        return this.offsets[this.parts.length];
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d is out of %d", index, this.length())
+            );
+        }
+        final int part = this.part(index);
+        return this.parts[part].charAt(index - this.offsets[part]);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > this.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Range [%d, %d) is out of %d", start, end, this.length()
+                )
+            );
+        }
+        final CharSequence sub;
+        if (start == 0 && end == this.length()) {
+            sub = this;
+        } else if (start == end) {
+            sub = "";
+        } else {
+            final int first = this.part(start);
+            final int last = this.part(end - 1);
+            final CharSequence[] slices = new CharSequence[last - first + 1];
+            for (int idx = first; idx <= last; ++idx) {
+                slices[idx - first] = Rope.slice(
+                    this.parts[idx],
+                    Math.max(start - this.offsets[idx], 0),
+                    Math.min(end, this.offsets[idx + 1]) - this.offsets[idx]
+                );
+            }
+            if (slices.length == 1) {
+                sub = slices[0];
+            } else {
+                sub = new Rope(slices);
+            }
+        }
+        return sub;
+    }
+
+    @Override
+    public String toString() {
+        final char[] chars = new char[this.length()];
+        this.copy(chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Copy all chars into the array.
+     * @param dst The array
+     * @param position Where to start in the array
+     */
+    private void copy(final char[] dst, final int position) {
+        for (int idx = 0; idx < this.parts.length; ++idx) {
+            Rope.copy(this.parts[idx], dst, position + this.offsets[idx]);
+        }
+    }
+
+    /**
+     * Index of the part, which contains the char.
+     * @param index Index of the char
+     * @return Index of the part
+     */
+    private int part(final int index) {
+        int low = 0;
+        int high = this.parts.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.offsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * View of a part of the sequence.
+     * @param seq The sequence
+     * @param start Start of the part
+     * @param end End of the part
+     * @return The view
+     */
+    private static CharSequence slice(final CharSequence seq, final int start,
+        final int end) {
+        final CharSequence slice;
+        if (start == 0 && end == seq.length()) {
+            slice = seq;
+        } else if (seq instanceof Rope || seq instanceof Rope.Slice) {
+            slice = seq.subSequence(start, end);
+        } else {
+            slice = new Rope.Slice(seq, start, end);
+        }
+        return slice;
+    }
+
+    /**
+     * Copy all chars of the sequence into the array.
+     * @param seq The sequence
+     * @param dst The array
+     * @param position Where to start in the array
+     */
+    private static void copy(final CharSequence seq, final char[] dst,
+        final int position) {
+        if (seq instanceof Rope) {
+            ((Rope) seq).copy(dst, position);
+        } else if (seq instanceof Rope.Slice) {
+            ((Rope.Slice) seq).copy(dst, position);
+        } else if (seq instanceof String) {
+            ((String) seq).getChars(0, seq.length(), dst, position);
+        } else {
+            for (int idx = 0; idx < seq.length(); ++idx) {
+                dst[position + idx] = seq.charAt(idx);
+            }
+        }
+    }
+
+    /**
+     * View of a part of a char sequence.
+     * @since 1.0
+     */
+    private static final class Slice implements CharSequence {
+
+        /**
+         * The sequence.
+         */
+        private final CharSequence origin;
+
+        /**
+         * Start of the part.
+         */
+        private final int start;
+
+        /**
+         * End of the part.
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param seq The sequence
+         * @param from Start of the part
+         * @param till End of the part
+         */
+        Slice(final CharSequence seq, final int from, final int till) {
+            this.origin = seq;
+            this.start = from;
+            this.end = till;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= this.length()) {
+                throw new IndexOutOfBoundsException(
+                    String.format("Index %d is out of %d", index, this.length())
+                );
+            }
+            return this.origin.charAt(this.start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int till) {
+            if (from < 0 || till > this.length() || from > till) {
+                throw new IndexOutOfBoundsException(
+                    String.format(
+                        "Range [%d, %d) is out of %d", from, till, this.length()
+                    )
+                );
+            }
+            return new Rope.Slice(
+                this.origin, this.start + from, this.start + till
+            );
+        }
+
+        @Override
+        public String toString() {
+            final char[] chars = new char[this.length()];
+            this.copy(chars, 0);
+            return new String(chars);
+        }
+
+        /**
+         * Copy all chars into the array.
+         * @param dst The array
+         * @param position Where to start in the array
+         */
+        private void copy(final char[] dst, final int position) {
+            if (this.origin instanceof String) {
+                ((String) this.origin).getChars(
+                    this.start, this.end, dst, position
+                );
+            } else {
+                for (int idx = this.start; idx < this.end; ++idx) {
+                    dst[position + idx - this.start] = this.origin.charAt(idx);
+                }
+            }
+        }
+    }
+}
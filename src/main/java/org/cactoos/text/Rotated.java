@@ -27,6 +27,11 @@ import org.cactoos.Text;
 
 /**
  * Rotate (circular shift) a String of shift characters.
+ *
+ * <p>The rotated text is a {@link Rope} view of the original one, so
+ * a chain of decorators like {@link Sub} and {@link Joined} copies the
+ * chars only once, when the outermost text is turned into a string.</p>
+ *
  * @since 0.12
  */
 public final class Rotated extends TextEnvelope {
@@ -38,24 +43,22 @@ public final class Rotated extends TextEnvelope {
      */
     public Rotated(final Text text, final int shift) {
         super(
-            new Mapped(
-                origin -> {
+            new TextOf(
+                () -> {
+                    final CharSequence origin = new ViewOf(text).value();
                     final int length = origin.length();
+                    CharSequence rotated = origin;
                     if (length != 0 && shift != 0 && shift % length != 0) {
                         int offset = -(shift % length);
                         if (offset < 0) {
                             offset = origin.length() + offset;
                         }
-                        final StringBuilder builder = new StringBuilder(length);
-                        origin = builder.append(
-                            origin.substring(offset)
-                        ).append(
-                            origin.substring(0, offset)
-                        ).toString();
+                        rotated = new Rope(origin, origin).subSequence(
+                            offset, offset + length
+                        );
                     }
-                    return origin;
-                },
-                text
+                    return rotated;
+                }
             )
         );
     }
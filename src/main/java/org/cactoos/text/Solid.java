@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+
+/**
+ * Cached and synchronized version of a Text, with value semantics.
+ *
+ * <p>The origin is evaluated only once, the string is kept and its hash
+ * code is cached, so it is fast to use as a key in a {@link java.util.Map}
+ * or a {@link java.util.Set}:</p>
+ *
+ * <pre> final Map&lt;Text, Integer&gt; counts = new HashMap&lt;&gt;();
+ * for (final Text word : new Split(text, " ")) {
+ *   counts.merge(new Solid(word), 1, Integer::sum);
+ * }</pre>
+ *
+ * <p>It is equal to any {@link Text} with the same content, just like
+ * other texts in this package are.</p>
+ *
+ * <p>Objects of this class are thread safe.
+ *
+ * @see Sticky
+ * @since 1.0
+ */
+public final class Solid implements Text {
+
+    /**
+     * The string, evaluated only once.
+     */
+    private final Scalar<String> string;
+
+    /**
+     * Ctor.
+     * @param txt The text
+     */
+    public Solid(final CharSequence txt) {
+        this(new TextOf(txt));
+    }
+
+    /**
+     * Ctor.
+     * @param txt The text
+     */
+    public Solid(final Text txt) {
+        this.string = new org.cactoos.scalar.Solid<>(txt::asString);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return this.string.value();
+    }
+
+    @Override
+    public String toString() {
+        return this.value();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value().hashCode();
+    }
+
+    @Override
+    @SuppressFBWarnings("EQ_UNUSUAL")
+    public boolean equals(final Object obj) {
+        boolean same = this == obj;
+        if (!same && obj instanceof Solid) {
+            final Solid other = (Solid) obj;
+            same = this.hashCode() == other.hashCode()
+                && this.value().equals(other.value());
+        } else if (!same && obj instanceof Text) {
+            same = this.value().equals(
+                new UncheckedText((Text) obj).asString()
+            );
+        }
+        return same;
+    }
+
+    /**
+     * The string, without checked exceptions.
+     * @return The string
+     */
+    private String value() {
+        return new UncheckedText(this).asString();
+    }
+}
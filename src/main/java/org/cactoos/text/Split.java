@@ -23,15 +23,21 @@
  */
 package org.cactoos.text;
 
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.iterator.IteratorOf;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.scalar.Sticky;
 
 /**
  * Split the Text.
  *
+ * <p>The regex is compiled only once, tokens are found lazily,
+ * while iterating, see {@link Tokens}. Tokens are views of the text,
+ * their chars are copied only when they are needed as strings.</p>
+ *
  * @see String#split(String)
  * @see String#split(String, int)
  * @since 0.9
@@ -120,11 +126,41 @@ public final class Split extends IterableEnvelope<Text> {
      * @see String#split(String, int)
      */
     public Split(final Text text, final Text rgx, final int lmt) {
+        this(text, new Sticky<>(() -> Pattern.compile(rgx.asString())), lmt);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     */
+    public Split(final Text text, final Pattern rgx) {
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Split(final Text text, final Pattern rgx, final int lmt) {
+        this(text, () -> rgx, lmt);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The compiled regex
+     * @param lmt The limit
+     */
+    private Split(final Text text, final Scalar<Pattern> rgx, final int lmt) {
         super(
-            new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(
-                    () -> new IteratorOf<>(text.asString().split(rgx.asString(), lmt))
+            new IterableOf<>(
+                () -> new Mapped<>(
+                    TextOf::new,
+                    new Tokens(text.asString(), rgx.value(), lmt).iterator()
                 )
             )
         );
@@ -26,6 +26,8 @@ package org.cactoos.text;
 import java.util.regex.Pattern;
 import org.cactoos.Func;
 import org.cactoos.Text;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Validates encapsulated text using predicate
@@ -36,6 +38,21 @@ import org.cactoos.Text;
  */
 public final class Strict extends TextEnvelope {
 
+    /**
+     * Ctor.
+     * @param regex The regular expression for validating encapsulated text,
+     *  it is compiled only once
+     * @param origin The Text
+     */
+    public Strict(final CharSequence regex, final Text origin) {
+        this(
+            new Unchecked<>(
+                new Sticky<>(() -> Pattern.compile(regex.toString()))
+            ),
+            origin
+        );
+    }
+
     /**
      * Ctor.
      * @param pattern The Pattern for validating encapsulated text
@@ -45,6 +62,15 @@ public final class Strict extends TextEnvelope {
         this(str -> pattern.matcher(str).matches(), origin);
     }
 
+    /**
+     * Ctor.
+     * @param pattern The Pattern for validating encapsulated text
+     * @param origin The Text
+     */
+    private Strict(final Unchecked<Pattern> pattern, final Text origin) {
+        this(str -> pattern.value().matcher(str).matches(), origin);
+    }
+
     /**
      * Ctor.
      * @param predicate The Func as a predicate
@@ -32,6 +32,11 @@ import org.cactoos.scalar.Constant;
 /**
  * Extract a substring from a Text.
  *
+ * <p>With positions given as numbers, the substring is a view of the
+ * original text, so a chain of decorators like {@link Joined} and
+ * {@link Rotated} copies the chars only once, when the outermost text is
+ * turned into a string.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * @since 0.11
  */
@@ -62,7 +67,7 @@ public final class Sub extends TextEnvelope {
      * @param strt Start position in the text
      */
     public Sub(final Text text, final int strt) {
-        this(text, new Constant<>(strt));
+        this(text, strt, Integer.MAX_VALUE);
     }
 
     /**
@@ -90,7 +95,24 @@ public final class Sub extends TextEnvelope {
      * @param finish End position in the text
      */
     public Sub(final Text text, final int strt, final int finish) {
-        this(text, new Constant<>(strt), new Constant<>(finish));
+        super(
+            new TextOf(
+                () -> {
+                    final CharSequence origin = new ViewOf(text).value();
+                    final int begin = Math.max(0, strt);
+                    final int end = Math.min(origin.length(), finish);
+                    if (begin > end) {
+                        throw new StringIndexOutOfBoundsException(
+                            String.format(
+                                "begin %d, end %d, length %d",
+                                begin, end, origin.length()
+                            )
+                        );
+                    }
+                    return new Rope(origin).subSequence(begin, end);
+                }
+            )
+        );
     }
 
     /**
@@ -39,18 +39,22 @@ public final class SwappedCase extends TextEnvelope {
     public SwappedCase(final Text text) {
         super(
             new Mapped(
-                origin -> {
-                    final char[] chars = origin.toCharArray();
-                    for (int idx = 0; idx < chars.length; idx += 1) {
-                        final char chr = chars[idx];
-                        if (Character.isUpperCase(chr)) {
-                            chars[idx] = Character.toLowerCase(chr);
-                        } else if (Character.isLowerCase(chr)) {
-                            chars[idx] = Character.toUpperCase(chr);
+                new AsciiCase(
+                    true,
+                    true,
+                    origin -> {
+                        final char[] chars = origin.toCharArray();
+                        for (int idx = 0; idx < chars.length; idx += 1) {
+                            final char chr = chars[idx];
+                            if (Character.isUpperCase(chr)) {
+                                chars[idx] = Character.toLowerCase(chr);
+                            } else if (Character.isLowerCase(chr)) {
+                                chars[idx] = Character.toUpperCase(chr);
+                            }
                         }
+                        return new String(chars);
                     }
-                    return new String(chars);
-                },
+                ),
                 text
             )
         );
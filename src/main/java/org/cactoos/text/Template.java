@@ -0,0 +1,382 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Format string, compiled once, for {@link FormattedText}.
+ *
+ * <p>The pattern is parsed into segments only once, when it is used for the
+ * first time. Then every rendering only appends segments and arguments,
+ * without creating a {@link Formatter} and parsing the pattern again.
+ * Specifiers {@code %s}, {@code %d} and {@code %x} without flags, width
+ * and precision, as well as {@code %n} and {@code %%}, are rendered
+ * directly, others are rendered by {@link Formatter}, one by one. The
+ * result is the same as of {@link String#format(Locale, String, Object...)}:
+ * </p>
+ *
+ * <pre> final Template tpl = new Template("%s %s took %d ms");
+ * final StringBuilder log = new StringBuilder();
+ * tpl.render(log, "GET", "/index.html", 42L);
+ * final Text line = new FormattedText(tpl, "GET", "/", 7L);</pre>
+ *
+ * <p>Objects of this class are thread safe.
+ *
+ * @since 1.0
+ */
+public final class Template {
+
+    /**
+     * Format specifier, as {@link Formatter} sees it.
+     */
+    private static final Pattern SPEC = Pattern.compile(
+        "%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])"
+    );
+
+    /**
+     * The locale.
+     */
+    private final Locale locale;
+
+    /**
+     * Segments, compiled only once.
+     */
+    private final Unchecked<Template.Segments> segments;
+
+    /**
+     * Ctor.
+     * @param ptn The pattern
+     */
+    public Template(final CharSequence ptn) {
+        this(ptn, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Ctor.
+     * @param ptn The pattern
+     * @param lcl The locale
+     */
+    public Template(final CharSequence ptn, final Locale lcl) {
+        this.locale = lcl;
+        this.segments = new Unchecked<>(
+            new Solid<>(
+                () -> new Template.Segments(
+                    ptn.toString(),
+                    DecimalFormatSymbols.getInstance(lcl).getZeroDigit() == '0'
+                )
+            )
+        );
+    }
+
+    /**
+     * Render the arguments into the output.
+     * @param out The output
+     * @param args The arguments
+     * @throws IOException If fails to append
+     */
+    public void render(final Appendable out, final Object... args)
+        throws IOException {
+        final Template.Segments segs = this.segments.value();
+        for (int idx = 0; idx < segs.kinds.length; ++idx) {
+            final char kind = segs.kinds[idx];
+            if (kind == 'L') {
+                out.append(segs.texts[idx]);
+            } else {
+                final int arg = segs.args[idx];
+                if (arg >= args.length) {
+                    throw new MissingFormatArgumentException(segs.texts[idx]);
+                }
+                Object value = null;
+                if (arg >= 0) {
+                    value = args[arg];
+                }
+                if (!Template.direct(out, kind, value)) {
+                    this.formatted(out, segs.texts[idx], arg, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Render the specifier with {@link Formatter}.
+     * @param out The output
+     * @param spec The specifier
+     * @param arg Index of the argument, or -1 if there is none
+     * @param value The argument
+     * @throws IOException If fails to append
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void formatted(final Appendable out, final String spec,
+        final int arg, final Object value) throws IOException {
+        final Formatter fmt = new Formatter(out, this.locale);
+        if (arg < 0) {
+            fmt.format(spec);
+        } else {
+            fmt.format(spec, value);
+        }
+        if (fmt.ioException() != null) {
+            throw fmt.ioException();
+        }
+    }
+
+    /**
+     * Render the argument directly, if possible.
+     * @param out The output
+     * @param kind The kind of the specifier
+     * @param value The argument
+     * @return TRUE if rendered, FALSE if it must be done by Formatter
+     * @throws IOException If fails to append
+     */
+    private static boolean direct(final Appendable out, final char kind,
+        final Object value) throws IOException {
+        final CharSequence str;
+        if (kind == 'n') {
+            str = System.lineSeparator();
+        } else if (kind == '%') {
+            str = "%";
+        } else if (kind == 'F') {
+            str = null;
+        } else if (value == null) {
+            str = "null";
+        } else if (kind == 's') {
+            str = Template.string(value);
+        } else if (kind == 'd') {
+            str = Template.decimal(out, value);
+        } else {
+            str = Template.hex(value);
+        }
+        final boolean done = str != null;
+        if (done && str.length() > 0) {
+            out.append(str);
+        }
+        return done;
+    }
+
+    /**
+     * The argument as {@code %s}.
+     * @param value The argument
+     * @return The string or NULL if Formatter must do it
+     */
+    private static String string(final Object value) {
+        String str = null;
+        if (!(value instanceof Formattable)) {
+            str = value.toString();
+        }
+        return str;
+    }
+
+    /**
+     * The argument as {@code %d}.
+     *
+     * <p>Integral numbers are appended to a {@link StringBuilder} directly,
+     * without making a string, then an empty string is returned.</p>
+     * @param out The output
+     * @param value The argument
+     * @return The string or NULL if Formatter must do it
+     */
+    private static String decimal(final Appendable out, final Object value) {
+        String str = null;
+        if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte) {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(((Number) value).longValue());
+                str = "";
+            } else {
+                str = value.toString();
+            }
+        } else if (value instanceof BigInteger) {
+            str = value.toString();
+        }
+        return str;
+    }
+
+    /**
+     * The argument as {@code %x}.
+     * @param value The argument
+     * @return The string or NULL if Formatter must do it
+     */
+    private static String hex(final Object value) {
+        String str = null;
+        if (value instanceof Integer) {
+            str = Integer.toHexString((Integer) value);
+        } else if (value instanceof Long) {
+            str = Long.toHexString((Long) value);
+        } else if (value instanceof Short) {
+            str = Integer.toHexString((Short) value & 0xFFFF);
+        } else if (value instanceof Byte) {
+            str = Integer.toHexString((Byte) value & 0xFF);
+        } else if (value instanceof BigInteger) {
+            str = ((BigInteger) value).toString(16);
+        }
+        return str;
+    }
+
+    /**
+     * Compiled pattern.
+     *
+     * <p>Each segment has a kind: {@code L} for a literal, {@code s},
+     * {@code d}, {@code x}, {@code n} and {@code %} for simple specifiers,
+     * which may be rendered directly, and {@code F} for specifiers that
+     * only {@link Formatter} can render.</p>
+     *
+     * @since 1.0
+     */
+    private static final class Segments {
+
+        /**
+         * Kinds of segments.
+         */
+        private final char[] kinds;
+
+        /**
+         * Literals and specifiers, without argument indexes.
+         */
+        private final String[] texts;
+
+        /**
+         * Indexes of arguments, or -1.
+         */
+        private final int[] args;
+
+        /**
+         * Ctor.
+         * @param ptn The pattern
+         * @param digits Are digits of the locale ASCII?
+         */
+        Segments(final String ptn, final boolean digits) {
+            final List<Character> knds = new ArrayList<>(0);
+            final List<String> txts = new ArrayList<>(0);
+            final List<Integer> idxs = new ArrayList<>(0);
+            final Matcher mtr = Template.SPEC.matcher(ptn);
+            int pos = 0;
+            int ordinary = 0;
+            int last = -1;
+            while (pos < ptn.length()) {
+                final int next = ptn.indexOf('%', pos);
+                if (next < 0 || next > pos) {
+                    final int end;
+                    if (next < 0) {
+                        end = ptn.length();
+                    } else {
+                        end = next;
+                    }
+                    knds.add('L');
+                    txts.add(ptn.substring(pos, end));
+                    idxs.add(-1);
+                    pos = end;
+                    continue;
+                }
+                if (!mtr.find(pos) || mtr.start() != pos) {
+                    throw new UnknownFormatConversionException(
+                        String.valueOf(Segments.after(ptn, pos))
+                    );
+                }
+                final char conv = mtr.group(6).charAt(0);
+                final String flags = Segments.nonNull(mtr.group(2));
+                final int arg;
+                if (conv == '%' || conv == 'n') {
+                    arg = -1;
+                } else if (mtr.group(1) != null) {
+                    arg = Integer.parseInt(
+                        mtr.group(1).substring(0, mtr.group(1).length() - 1)
+                    ) - 1;
+                    last = arg;
+                } else if (flags.indexOf('<') >= 0) {
+                    arg = last;
+                } else {
+                    arg = ordinary;
+                    ++ordinary;
+                    last = arg;
+                }
+                final boolean plain = flags.isEmpty() && mtr.group(3) == null
+                    && mtr.group(4) == null && mtr.group(5) == null;
+                if (plain && "sxn%".indexOf(conv) >= 0
+                    || plain && conv == 'd' && digits) {
+                    knds.add(conv);
+                } else {
+                    knds.add('F');
+                }
+                txts.add(
+                    new StringBuilder("%")
+                        .append(flags.replace("<", ""))
+                        .append(Segments.nonNull(mtr.group(3)))
+                        .append(Segments.nonNull(mtr.group(4)))
+                        .append(Segments.nonNull(mtr.group(5)))
+                        .append(conv)
+                        .toString()
+                );
+                idxs.add(arg);
+                pos = mtr.end();
+            }
+            this.kinds = new char[knds.size()];
+            this.texts = txts.toArray(new String[0]);
+            this.args = new int[idxs.size()];
+            for (int idx = 0; idx < this.kinds.length; ++idx) {
+                this.kinds[idx] = knds.get(idx);
+                this.args[idx] = idxs.get(idx);
+            }
+        }
+
+        /**
+         * The char after the percent sign, or the percent sign itself.
+         * @param ptn The pattern
+         * @param pos Position of the percent sign
+         * @return The char
+         */
+        private static char after(final String ptn, final int pos) {
+            char chr = '%';
+            if (pos + 1 < ptn.length()) {
+                chr = ptn.charAt(pos + 1);
+            }
+            return chr;
+        }
+
+        /**
+         * The string or an empty one instead of NULL.
+         * @param str The string
+         * @return Not NULL string
+         */
+        private static String nonNull(final String str) {
+            String res = str;
+            if (res == null) {
+                res = "";
+            }
+            return res;
+        }
+    }
+}
@@ -51,6 +51,15 @@ public abstract class TextEnvelope implements Text {
         return this.origin.asString();
     }
 
+    /**
+     * Char sequence behind the text, not flattened into a string.
+     * @return The char sequence
+     * @throws Exception If fails
+     */
+    final CharSequence view() throws Exception {
+        return new ViewOf(this.origin).value();
+    }
+
     @Override
     public final String toString() {
         return this.origin.toString();
@@ -169,10 +169,13 @@ public final class TextOf extends TextEnvelope {
     /**
      * Ctor.
      *
+     * <p>The sequence is returned as is, without encoding and decoding
+     * it back.</p>
+     *
      * @param str The CharSequence
      */
     public TextOf(final CharSequence str) {
-        this(new BytesOf(str));
+        this(new TextOfScalar(str::toString));
     }
 
     /**
@@ -191,7 +194,7 @@ public final class TextOf extends TextEnvelope {
      * @param chars The chars
      */
     public TextOf(final char... chars) {
-        this(new BytesOf(chars));
+        this(new TextOfScalar(() -> new String(chars)));
     }
 
     /**
@@ -307,10 +310,13 @@ public final class TextOf extends TextEnvelope {
     /**
      * Ctor.
      *
+     * <p>The string is returned as is, without encoding and decoding
+     * it back.</p>
+     *
      * @param input The String
      */
     public TextOf(final String input) {
-        this(input, StandardCharsets.UTF_8);
+        this(new TextOfString(input));
     }
 
     /**
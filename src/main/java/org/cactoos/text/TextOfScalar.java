@@ -26,8 +26,6 @@ package org.cactoos.text;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
-import org.cactoos.scalar.And;
-import org.cactoos.scalar.Or;
 import org.cactoos.scalar.Unchecked;
 
 /**
@@ -58,6 +56,15 @@ public final class TextOfScalar implements Text {
         return this.origin.value().toString();
     }
 
+    /**
+     * Char sequence of the scalar, not flattened into a string.
+     * @return The char sequence
+     * @throws Exception If fails
+     */
+    CharSequence view() throws Exception {
+        return this.origin.value();
+    }
+
     @Override
     public String toString() {
         return new UncheckedText(this).asString();
@@ -65,22 +72,14 @@ public final class TextOfScalar implements Text {
 
     @Override
     public int hashCode() {
-        return new Unchecked<>(this.origin).value().hashCode();
+        return new Unchecked<>(this.origin).value().toString().hashCode();
     }
 
     @Override
     @SuppressFBWarnings("EQ_UNUSUAL")
     public boolean equals(final Object obj) {
-        return new Unchecked<>(
-            new Or(
-                () -> this == obj,
-                new And(
-                    () -> obj instanceof Text,
-                    () -> new UncheckedText(this)
-                        .asString()
-                        .equals(new UncheckedText((Text) obj).asString())
-                )
-            )
-        ).value();
+        return this == obj || obj instanceof Text
+            && new UncheckedText(this).asString()
+                .equals(new UncheckedText((Text) obj).asString());
     }
 }
@@ -25,9 +25,6 @@ package org.cactoos.text;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.cactoos.Text;
-import org.cactoos.scalar.And;
-import org.cactoos.scalar.Or;
-import org.cactoos.scalar.Unchecked;
 
 /**
  * Text of {@link String}
@@ -70,14 +67,7 @@ public final class TextOfString implements Text {
     @Override
     @SuppressFBWarnings("EQ_UNUSUAL")
     public boolean equals(final Object obj) {
-        return new Unchecked<>(
-            new Or(
-                () -> this == obj,
-                new And(
-                    () -> obj instanceof Text,
-                    () -> this.input.equals(new UncheckedText((Text) obj).asString())
-                )
-            )
-        ).value();
+        return this == obj || obj instanceof Text
+            && this.input.equals(new UncheckedText((Text) obj).asString());
     }
 }
@@ -0,0 +1,326 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Tokens of a char sequence, split by a delimiter, as lazy views.
+ *
+ * <p>Tokens are found one by one while iterating, with a precompiled
+ * {@link Pattern}, and returned as views of the original sequence,
+ * without copying chars. Delimiters without regex meta characters,
+ * as well as single chars, are found with a plain search,
+ * without the regex engine. The semantics of the limit and of empty
+ * tokens are the same as in {@link String#split(String, int)}:</p>
+ *
+ * <pre> for (final CharSequence cell : new Tokens(line, ',')) {
+ *   // process the cell
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Split
+ * @since 1.0
+ */
+public final class Tokens extends IterableEnvelope<CharSequence> {
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param delim The delimiter
+     */
+    public Tokens(final CharSequence text, final char delim) {
+        this(text, delim, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param delim The delimiter
+     * @param lmt The limit
+     */
+    public Tokens(final CharSequence text, final char delim, final int lmt) {
+        this(
+            text,
+            Pattern.compile(String.valueOf(delim), Pattern.LITERAL),
+            lmt
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     */
+    public Tokens(final CharSequence text, final Pattern rgx) {
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Tokens(final CharSequence text, final Pattern rgx, final int lmt) {
+        super(
+            new IterableOf<>(
+                () -> new Tokens.Cursor(
+                    text, rgx.matcher(text), new Literal(rgx).asString(), lmt
+                )
+            )
+        );
+    }
+
+    /**
+     * Iterator over tokens.
+     * @since 1.0
+     */
+    private static final class Cursor implements Iterator<CharSequence> {
+
+        /**
+         * The source.
+         */
+        private final CharSequence source;
+
+        /**
+         * Views of the source.
+         */
+        private final Rope views;
+
+        /**
+         * Matcher of the delimiter.
+         */
+        private final Matcher matcher;
+
+        /**
+         * Literal delimiter or empty, if the matcher must be used.
+         */
+        private final String needle;
+
+        /**
+         * The limit.
+         */
+        private final int limit;
+
+        /**
+         * Start of the next token.
+         */
+        private int index;
+
+        /**
+         * Start of the last delimiter found.
+         */
+        private int start;
+
+        /**
+         * End of the last delimiter found.
+         */
+        private int end;
+
+        /**
+         * How many raw tokens were produced.
+         */
+        private int produced;
+
+        /**
+         * Was at least one delimiter found?
+         */
+        private boolean split;
+
+        /**
+         * Is the source over?
+         */
+        private boolean done;
+
+        /**
+         * Empty tokens to return before the held one.
+         */
+        private int empties;
+
+        /**
+         * The next token to return or NULL.
+         */
+        private CharSequence held;
+
+        /**
+         * Ctor.
+         * @param text The source
+         * @param mtr The matcher
+         * @param lit The literal delimiter or empty
+         * @param lmt The limit
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Cursor(final CharSequence text, final Matcher mtr, final String lit,
+            final int lmt) {
+            this.source = text;
+            this.views = new Rope(text);
+            this.matcher = mtr;
+            this.needle = lit;
+            this.limit = lmt;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.empties == 0 && this.held == null) {
+                this.fetch();
+            }
+            return this.empties > 0 || this.held != null;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "No more tokens in the text"
+                );
+            }
+            final CharSequence next;
+            if (this.empties > 0) {
+                --this.empties;
+                next = "";
+            } else {
+                next = this.held;
+                this.held = null;
+            }
+            return next;
+        }
+
+        /**
+         * Find the next token, skipping trailing empty ones if needed.
+         */
+        private void fetch() {
+            int blank = 0;
+            while (!this.done) {
+                final CharSequence token = this.raw();
+                if (token.length() > 0 || this.limit != 0 || !this.split) {
+                    this.empties = blank;
+                    this.held = token;
+                    break;
+                }
+                ++blank;
+            }
+        }
+
+        /**
+         * The next token, as {@link String#split(String, int)} sees it.
+         * @return The token
+         */
+        private CharSequence raw() {
+            CharSequence token = null;
+            if (this.limit <= 0 || this.produced < this.limit - 1) {
+                while (this.find()) {
+                    if (this.index == 0 && this.start == 0
+                        && this.end == 0) {
+                        continue;
+                    }
+                    token = this.views.subSequence(this.index, this.start);
+                    this.index = this.end;
+                    this.split = true;
+                    break;
+                }
+            }
+            if (token == null) {
+                token = this.views.subSequence(
+                    this.index, this.source.length()
+                );
+                this.done = true;
+            }
+            ++this.produced;
+            return token;
+        }
+
+        /**
+         * Find the next delimiter.
+         * @return TRUE if found
+         */
+        private boolean find() {
+            final boolean found;
+            if (this.needle.isEmpty()) {
+                found = this.matcher.find();
+                if (found) {
+                    this.start = this.matcher.start();
+                    this.end = this.matcher.end();
+                }
+            } else {
+                final int pos = this.search(this.index);
+                found = pos >= 0;
+                if (found) {
+                    this.start = pos;
+                    this.end = pos + this.needle.length();
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Position of the literal delimiter in the source.
+         * @param from Where to start from
+         * @return Position or -1 if not found
+         */
+        private int search(final int from) {
+            int pos = -1;
+            if (this.source instanceof String) {
+                final String str = (String) this.source;
+                if (this.needle.length() == 1) {
+                    pos = str.indexOf(this.needle.charAt(0), from);
+                } else {
+                    pos = str.indexOf(this.needle, from);
+                }
+            } else {
+                final int last = this.source.length() - this.needle.length();
+                for (int idx = from; idx <= last; ++idx) {
+                    if (this.matches(idx)) {
+                        pos = idx;
+                        break;
+                    }
+                }
+            }
+            return pos;
+        }
+
+        /**
+         * Does the literal delimiter start at this position?
+         * @param pos The position
+         * @return TRUE if it does
+         */
+        private boolean matches(final int pos) {
+            boolean same = true;
+            for (int idx = 0; idx < this.needle.length(); ++idx) {
+                if (this.source.charAt(pos + idx) != this.needle.charAt(idx)) {
+                    same = false;
+                    break;
+                }
+            }
+            return same;
+        }
+    }
+}
@@ -58,6 +58,6 @@ public final class Upper extends TextEnvelope {
      * @param locale Locale
      */
     public Upper(final Text text, final Locale locale) {
-        super(new Mapped(str -> str.toUpperCase(locale), text));
+        super(new Mapped(new AsciiCase(true, locale), text));
     }
 }
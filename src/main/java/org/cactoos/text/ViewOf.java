@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+
+/**
+ * Char sequence behind a text, without flattening it into a string.
+ *
+ * <p>Decorators of this package build their results of {@link Rope}s and
+ * slices of the char sequences of their origins, so a chain of them
+ * copies the chars only once, when the outermost text is turned into a
+ * string. Texts of other packages are turned into strings here.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ViewOf implements Scalar<CharSequence> {
+
+    /**
+     * The text.
+     */
+    private final Text text;
+
+    /**
+     * Ctor.
+     * @param txt The text
+     */
+    ViewOf(final Text txt) {
+        this.text = txt;
+    }
+
+    @Override
+    public CharSequence value() throws Exception {
+        final CharSequence view;
+        if (this.text instanceof TextEnvelope) {
+            view = ((TextEnvelope) this.text).view();
+        } else if (this.text instanceof TextOfScalar) {
+            view = ((TextOfScalar) this.text).view();
+        } else {
+            view = this.text.asString();
+        }
+        return view;
+    }
+}
@@ -89,4 +89,15 @@ public final class HexOfTest {
             )
         ).affirm();
     }
+
+    @Test
+    public void upperCaseHex() throws Exception {
+        new Assertion<>(
+            "Must convert upper case hexadecimal text to bytes",
+            new HexOf(new TextOf("CAFEbabe")).asBytes(),
+            new IsEqual<>(
+                new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE}
+            )
+        ).affirm();
+    }
 }
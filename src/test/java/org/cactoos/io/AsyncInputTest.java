@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.text.Repeated;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link AsyncInput}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsyncInputTest {
+
+    @Test
+    void readsAllContent() throws Exception {
+        final String content = new Repeated("abcdefghij", 1000).asString();
+        new Assertion<>(
+            "must read the whole input ahead in small chunks",
+            new AsyncInput(new SlowInput(new InputOf(content)), 2, 7),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyInput() {
+        new Assertion<>(
+            "must read an empty input",
+            new AsyncInput(new InputOf("")),
+            new HasContent("")
+        ).affirm();
+    }
+
+    @Test
+    void readsSingleBytes() throws Exception {
+        try (InputStream stream =
+            new AsyncInput(new InputOf("\u00ff")).stream()) {
+            final byte[] expected = new BytesOf("\u00ff").asBytes();
+            new Assertion<>(
+                "must read the first byte as unsigned",
+                stream.read(),
+                new IsEqual<>(expected[0] & 0xFF)
+            ).affirm();
+            new Assertion<>(
+                "must read the second byte as unsigned",
+                stream.read(),
+                new IsEqual<>(expected[1] & 0xFF)
+            ).affirm();
+            new Assertion<>(
+                "must reach the end of the stream",
+                stream.read(),
+                new IsEqual<>(-1)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void propagatesErrorToConsumer() {
+        new Assertion<>(
+            "must re-throw the failure of the background thread",
+            () -> new TextOf(
+                new AsyncInput(
+                    () -> new InputStream() {
+                        @Override
+                        public int read() throws IOException {
+                            throw new IOException("broken");
+                        }
+                    }
+                )
+            ).asString(),
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void closesBeforeTheEnd() throws Exception {
+        final InputStream stream = new AsyncInput(
+            () -> new InputStream() {
+                @Override
+                public int read() {
+                    return 'a';
+                }
+            },
+            1,
+            1
+        ).stream();
+        stream.read();
+        stream.close();
+        new Assertion<>(
+            "must not read after close",
+            stream::read,
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void propagatesErrorsOfAnyKind() {
+        new Assertion<>(
+            "must re-throw an error of the background thread",
+            () -> new AsyncInputStream(
+                new InputStream() {
+                    @Override
+                    public int read() {
+                        throw new LinkageError("broken");
+                    }
+                }
+            ).read(),
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsFailingAfterError() throws Exception {
+        try (InputStream stream = new AsyncInputStream(
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("broken");
+                }
+            }
+        )) {
+            new Assertion<>(
+                "must fail on the first read",
+                stream::read,
+                new Throws<>(IOException.class)
+            ).affirm();
+            new Assertion<>(
+                "must fail on the next read, not report the end",
+                stream::read,
+                new Throws<>(IOException.class)
+            ).affirm();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link AsyncOutput}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsyncOutputTest {
+
+    @Test
+    void writesBehind() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new AsyncOutput(new OutputTo(baos)).stream()) {
+            stream.write("Hello, ".getBytes());
+            stream.write('w');
+            stream.write("__orld!".getBytes(), 2, 5);
+            stream.flush();
+            new Assertion<>(
+                "must commit all writes on flush",
+                new TextOf(baos.toByteArray()),
+                new IsText("Hello, world!")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void writesFromManyThreads() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final int threads = 50;
+        try (OutputStream stream = new AsyncOutput(new OutputTo(baos), 3, false)
+            .stream()) {
+            new Assertion<>(
+                "must accept writes from many threads",
+                out -> {
+                    out.write("12345".getBytes());
+                    return true;
+                },
+                new RunsInThreads<>(stream, threads)
+            ).affirm();
+        }
+        new Assertion<>(
+            "must write everything before close",
+            baos.size(),
+            new IsEqual<>(threads * 5)
+        ).affirm();
+    }
+
+    @Test
+    void syncsFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("audit.log");
+        try (OutputStream stream = new AsyncOutput(
+            new OutputTo(new FileOutputStream(file.toFile())), 16, true
+        ).stream()) {
+            stream.write("first".getBytes());
+            stream.flush();
+            stream.write(" second".getBytes());
+        }
+        new Assertion<>(
+            "must write to the file",
+            new TextOf(file),
+            new IsText("first second")
+        ).affirm();
+    }
+
+    @Test
+    void propagatesFailure() throws Exception {
+        final OutputStream stream = new AsyncOutput(
+            () -> new OutputStream() {
+                @Override
+                public void write(final int data) throws IOException {
+                    throw new IOException("disk is full");
+                }
+            }
+        ).stream();
+        stream.write(1);
+        new Assertion<>(
+            "must re-throw the failure of the background thread",
+            () -> {
+                stream.flush();
+                return true;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "must re-throw the failure on close",
+            () -> {
+                stream.close();
+                return true;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWritesAfterClose() throws Exception {
+        final OutputStream stream = new AsyncOutput(
+            new OutputTo(new ByteArrayOutputStream())
+        ).stream();
+        stream.close();
+        new Assertion<>(
+            "must not write after close",
+            () -> {
+                stream.write(1);
+                return true;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsSyncOfAppendTo(@TempDir final Path dir) throws Exception {
+        final Path file = Files.createFile(dir.resolve("audit.log"));
+        new Assertion<>(
+            "must reject fsync of a stream that can't be forced",
+            () -> new AsyncOutput(new AppendTo(file), 16, true).stream(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void appendsToFileWithoutSync(@TempDir final Path dir)
+        throws Exception {
+        final Path file = Files.write(
+            dir.resolve("audit.log"), "first".getBytes()
+        );
+        try (OutputStream stream = new AsyncOutput(
+            new AppendTo(file), 16, false
+        ).stream()) {
+            stream.write(" second".getBytes());
+        }
+        new Assertion<>(
+            "must append to the file",
+            new TextOf(file),
+            new IsText("first second")
+        ).affirm();
+    }
+
+    @Test
+    void appendsToFileWithSync(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(
+            dir.resolve("audit.log"), "first".getBytes()
+        );
+        try (OutputStream stream = new AsyncOutput(file, 16, true).stream()) {
+            stream.write(" second".getBytes());
+            stream.flush();
+            stream.write(" third".getBytes());
+        }
+        new Assertion<>(
+            "must append to the file and force it",
+            new TextOf(file),
+            new IsText("first second third")
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenWorkerIsInterrupted() throws Exception {
+        final AtomicReference<Thread> worker = new AtomicReference<>();
+        final OutputStream stream = new AsyncOutputStream(
+            new ByteArrayOutputStream(), 16, false,
+            task -> {
+                worker.set(new Thread(task));
+                return worker.get();
+            }
+        );
+        worker.get().interrupt();
+        worker.get().join();
+        new Assertion<>(
+            "must fail to flush, not wait forever",
+            () -> {
+                stream.flush();
+                return true;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void writesMoreBytesThanCapacity() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new AsyncOutput(new OutputTo(baos), 2, false).stream()) {
+            stream.write("more than two bytes".getBytes());
+            stream.write("!".getBytes());
+        }
+        new Assertion<>(
+            "must write a chunk larger than the queue",
+            new TextOf(baos.toByteArray()),
+            new IsText("more than two bytes!")
+        ).affirm();
+    }
+}
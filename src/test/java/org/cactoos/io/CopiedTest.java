@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.text.Repeated;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Copied}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CopiedTest {
+
+    @Test
+    void copiesFileToFile(@TempDir final Path dir) throws Exception {
+        final String content = new Repeated("file to file ", 1000).asString();
+        final Path source = dir.resolve("source.txt");
+        final Path target = dir.resolve("target.txt");
+        Files.write(source, content.getBytes());
+        new Assertion<>(
+            "must transfer all bytes of the file",
+            new Copied(new InputOf(source), new OutputTo(target)).value(),
+            new IsEqual<>((long) content.length())
+        ).affirm();
+        new Assertion<>(
+            "must write the file",
+            new InputOf(target),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void copiesStreamThroughBuffer() throws Exception {
+        final String content = new Repeated("stream ", 100).asString();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new Assertion<>(
+            "must copy all bytes through a small buffer",
+            new Copied(
+                new SlowInput(new InputOf(content)), new OutputTo(baos), 3
+            ).value(),
+            new IsEqual<>((long) content.length())
+        ).affirm();
+        new Assertion<>(
+            "must write all bytes",
+            new InputOf(baos.toByteArray()),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyBuffer() {
+        new Assertion<>(
+            "must reject buffer of zero size",
+            new Copied(new InputOf("x"), new DeadOutput(), 0),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void copiesReaderToWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        new Assertion<>(
+            "must count copied chars",
+            new Copied(
+                new LoweredReader(new StringReader("Привет, World!")), writer
+            ).value(),
+            new IsEqual<>(14L)
+        ).affirm();
+        new Assertion<>(
+            "must write all chars",
+            writer.toString(),
+            new IsEqual<>("привет, world!")
+        ).affirm();
+    }
+
+    @Test
+    void copiesReaderToOutput() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new Copied(new StringReader("Привет"), new OutputTo(baos)).value();
+        new Assertion<>(
+            "must write chars in UTF-8",
+            new InputOf(baos.toByteArray()),
+            new HasContent("Привет")
+        ).affirm();
+    }
+}
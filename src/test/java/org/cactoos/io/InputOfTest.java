@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -315,4 +316,16 @@ final class InputOfTest {
         ).affirm();
     }
 
+    @Test
+    void readsChannel() {
+        new Assertion<>(
+            "must read from a channel",
+            new InputOf(
+                Channels.newChannel(
+                    new ByteArrayInputStream("channel".getBytes())
+                )
+            ),
+            new HasContent("channel")
+        ).affirm();
+    }
 }
@@ -24,8 +24,10 @@
 package org.cactoos.io;
 
 import java.io.StringWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.cactoos.scalar.LengthOf;
 import org.junit.Rule;
 import org.junit.Test;
@@ -75,6 +77,23 @@ public final class OutputToTest {
         ).affirm();
     }
 
+    @Test
+    public void writesIntoChannel() throws Exception {
+        final Path path = this.folder.newFile("channel.txt").toPath();
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.WRITE
+        )) {
+            new LengthOf(
+                new TeeInput("channel", new OutputTo(channel))
+            ).value();
+        }
+        new Assertion<>(
+            "Must write into channel",
+            new InputOf(path),
+            new HasContent("channel")
+        ).affirm();
+    }
+
     @Test
     public void writesIntoWriter() throws Exception {
         final String txt = "Hello, writer!";
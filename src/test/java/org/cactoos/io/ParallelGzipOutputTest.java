@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.cactoos.text.Repeated;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ParallelGzipOutput}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ParallelGzipOutputTest {
+
+    @Test
+    void writesReadableByGzipInput() throws Exception {
+        final String content = new Repeated("Hello, gzip! ", 5000).asString();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new ParallelGzipOutput(new OutputTo(baos), 1000, 3).stream()) {
+            stream.write(content.getBytes());
+        }
+        new Assertion<>(
+            "must write a multi-member gzip stream",
+            new GzipInput(new InputOf(baos.toByteArray())),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void writesReadableByJdk() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new ParallelGzipOutput(new OutputTo(baos), 4, 2).stream()) {
+            stream.write('a');
+            stream.write("bcdefgh".getBytes());
+            stream.flush();
+            stream.write("ijk".getBytes());
+        }
+        new Assertion<>(
+            "must be readable by GZIPInputStream",
+            new TextOf(
+                new GZIPInputStream(
+                    new ByteArrayInputStream(baos.toByteArray())
+                )
+            ),
+            new IsText("abcdefghijk")
+        ).affirm();
+    }
+
+    @Test
+    void writesEmptyStream() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ParallelGzipOutput(new OutputTo(baos)).stream().close();
+        new Assertion<>(
+            "must write a valid empty gzip stream",
+            new GzipInput(new InputOf(baos.toByteArray())),
+            new HasContent("")
+        ).affirm();
+    }
+
+    @Test
+    void worksWithGivenExecutor() throws Exception {
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new ParallelGzipOutputStream(baos, 2, exec, 1)) {
+            stream.write("executor".getBytes());
+        } finally {
+            exec.shutdown();
+        }
+        new Assertion<>(
+            "must compress in the given executor",
+            new GzipInput(new InputOf(baos.toByteArray())),
+            new HasContent("executor")
+        ).affirm();
+    }
+
+    @Test
+    void failsOnBrokenOutput() {
+        new Assertion<>(
+            "must fail when the output is broken",
+            () -> {
+                try (OutputStream stream = new ParallelGzipOutput(
+                    () -> new OutputStream() {
+                        @Override
+                        public void write(final int data) throws IOException {
+                            throw new IOException("broken");
+                        }
+                    }
+                ).stream()) {
+                    stream.write("data".getBytes());
+                }
+                return true;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void compressesInDaemonThreads() throws Exception {
+        try (OutputStream stream =
+            new ParallelGzipOutputStream(new ByteArrayOutputStream(), 2, 1)) {
+            stream.write("daemons".getBytes());
+            new Assertion<>(
+                "must not keep the JVM alive",
+                Thread.getAllStackTraces().keySet().stream()
+                    .filter(t -> "cactoos-parallel-gzip".equals(t.getName()))
+                    .map(Thread::isDaemon)
+                    .collect(Collectors.toSet()),
+                new IsEqual<>(Collections.singleton(true))
+            ).affirm();
+        }
+    }
+}
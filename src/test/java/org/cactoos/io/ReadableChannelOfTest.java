@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReadableChannelOf}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReadableChannelOfTest {
+
+    @Test
+    void readsInput() throws Exception {
+        final ByteBuffer buf = ByteBuffer.allocateDirect(16);
+        try (ReadableByteChannel channel =
+            new ReadableChannelOf(new InputOf("nio"))) {
+            new Assertion<>(
+                "must be open before reading",
+                channel.isOpen(),
+                new IsTrue()
+            ).affirm();
+            channel.read(buf);
+            new Assertion<>(
+                "must reach the end of the input",
+                channel.read(buf),
+                new IsEqual<>(-1)
+            ).affirm();
+        }
+        buf.flip();
+        final byte[] data = new byte[buf.remaining()];
+        buf.get(data);
+        new Assertion<>(
+            "must read all bytes into the buffer",
+            new String(data),
+            new IsEqual<>("nio")
+        ).affirm();
+    }
+
+    @Test
+    void isClosedAfterClose() throws Exception {
+        final ReadableByteChannel channel =
+            new ReadableChannelOf(new InputOf("closed"));
+        channel.close();
+        new Assertion<>(
+            "must be closed",
+            channel.isOpen(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotOpenInputToClose() throws Exception {
+        final AtomicInteger opens = new AtomicInteger();
+        final ReadableByteChannel channel = new ReadableChannelOf(
+            () -> {
+                opens.incrementAndGet();
+                return new InputOf("unused").stream();
+            }
+        );
+        channel.isOpen();
+        channel.close();
+        new Assertion<>(
+            "must not open the input to check or close the channel",
+            opens.get(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsReadAfterClose() throws Exception {
+        final ReadableByteChannel channel =
+            new ReadableChannelOf(new InputOf("closed"));
+        channel.close();
+        new Assertion<>(
+            "must reject reads after close",
+            () -> channel.read(ByteBuffer.allocate(1)),
+            new Throws<>(ClosedChannelException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.StringReader;
+import org.cactoos.text.Repeated;
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReplacedReader}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReplacedReaderTest {
+
+    @Test
+    void replacesAllOccurrences() {
+        new Assertion<>(
+            "must replace all occurrences",
+            new TextOf(
+                new ReplacedReader(
+                    new StringReader("one cat, two cats, no dogs"), "cat", "dog"
+                )
+            ),
+            new IsText("one dog, two dogs, no dogs")
+        ).affirm();
+    }
+
+    @Test
+    void replacesPartialMatches() {
+        new Assertion<>(
+            "must restart the search after a partial match",
+            new TextOf(
+                new ReplacedReader(new StringReader("aaabaabaab"), "aab", "X")
+            ),
+            new IsText("aXXX")
+        ).affirm();
+    }
+
+    @Test
+    void keepsUnfinishedMatchAtTheEnd() {
+        new Assertion<>(
+            "must keep a prefix of the needle at the end",
+            new TextOf(
+                new ReplacedReader(new StringReader("abcab"), "abc", "")
+            ),
+            new IsText("ab")
+        ).affirm();
+    }
+
+    @Test
+    void replacesAcrossBuffers() throws Exception {
+        final String text = new Repeated("\r\n-", 10_000).asString();
+        new Assertion<>(
+            "must replace in a long text, across internal buffers",
+            new TextOf(
+                new ReplacedReader(new StringReader(text), "\r\n", "\n")
+            ),
+            new IsText(text.replace("\r\n", "\n"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyNeedle() {
+        new Assertion<>(
+            "must reject empty needle",
+            () -> new ReplacedReader(new StringReader("text"), "", "x"),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -26,6 +26,9 @@ package org.cactoos.io;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasContent;
@@ -58,4 +61,21 @@ final class TeeReaderTest {
         ).affirm();
     }
 
+    @Test
+    void copiesOnlyReadChars() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final char[] buf = new char[10];
+        try (Reader reader = new TeeReader(new StringReader("abc"), writer)) {
+            new Assertion<>(
+                "Must read into the given offset",
+                reader.read(buf, 4, 6),
+                new IsEqual<>(3)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must copy only read chars",
+            writer.toString(),
+            new IsEqual<>("abc")
+        ).affirm();
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ThreadLocalBufferPool}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ThreadLocalBufferPoolTest {
+
+    @Test
+    void roundsUpToSizeClass() {
+        new Assertion<>(
+            "must round the size up to a power of two",
+            new ThreadLocalBufferPool().take(5000).length,
+            new IsEqual<>(8192)
+        ).affirm();
+    }
+
+    @Test
+    void reusesReleasedBuffer() {
+        final BufferPool pool = new ThreadLocalBufferPool();
+        final byte[] first = pool.take(16 << 10);
+        pool.release(first);
+        new Assertion<>(
+            "must give the released buffer again",
+            pool.take(10_000),
+            new IsSame<>(first)
+        ).affirm();
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool();
+        final byte[] buffer = pool.take(1 << 20);
+        final long hits = pool.hits();
+        final long misses = pool.misses();
+        pool.release(buffer);
+        pool.release(pool.take(1 << 20));
+        new Assertion<>(
+            "must count a hit",
+            pool.hits(),
+            new IsEqual<>(hits + 1)
+        ).affirm();
+        pool.take(1 << 20);
+        pool.take(1 << 20);
+        new Assertion<>(
+            "must count a miss",
+            pool.misses() - misses,
+            new IsNot<>(new IsEqual<>(0L))
+        ).affirm();
+    }
+
+    @Test
+    void neverPoolsHugeBuffers() {
+        final BufferPool pool = new ThreadLocalBufferPool();
+        final byte[] huge = pool.take((1 << 20) + 1);
+        pool.release(huge);
+        new Assertion<>(
+            "must not keep buffers larger than the largest class",
+            pool.take((1 << 20) + 1),
+            new IsNot<>(new IsSame<>(huge))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNegativeSize() {
+        new Assertion<>(
+            "must reject negative size",
+            () -> new ThreadLocalBufferPool().take(-1),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
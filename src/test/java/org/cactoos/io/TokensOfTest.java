@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Text;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.Repeated;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasSize;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link TokensOf}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class TokensOfTest {
+
+    @Test
+    void splitsLikeString() {
+        for (final String text : new ListOf<>(
+            "a,b,c", ",a,,b,,", "", ",", ",,", "abc", "a,b,", ",,c"
+        )) {
+            new Assertion<>(
+                String.format("must split '%s' like String.split()", text),
+                new ListOf<>(
+                    new Mapped<>(
+                        Object::toString,
+                        new TokensOf(new StringReader(text), ",")
+                    )
+                ),
+                new IsEqual<>(new ListOf<>(text.split(",")))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void splitsByLongDelimiter() {
+        new Assertion<>(
+            "must split by delimiter with repeating prefix",
+            new Mapped<>(
+                Object::toString,
+                new TokensOf(new InputOf("xaab--aaab--b"), "aab")
+            ),
+            new HasValues<>("x", "--a", "--b")
+        ).affirm();
+    }
+
+    @Test
+    void readsInputAgain() {
+        final TokensOf tokens = new TokensOf(new InputOf("1 2 3"), " ");
+        new ListOf<>(tokens);
+        new Assertion<>(
+            "must read the input again in every iterator",
+            new ListOf<>(tokens),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    void splitsLongText() throws Exception {
+        new Assertion<>(
+            "must split text longer than internal buffer",
+            new ListOf<>(
+                new TokensOf(new InputOf(new Repeated("line\n", 5000)), "\n")
+            ),
+            new HasSize(5000)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterTheEnd() {
+        new Assertion<>(
+            "must fail after the last token",
+            () -> {
+                final Iterator<Text> tokens =
+                    new TokensOf(new StringReader(""), ";").iterator();
+                tokens.next();
+                return tokens.next();
+            },
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
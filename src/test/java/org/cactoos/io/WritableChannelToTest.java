@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link WritableChannelTo}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class WritableChannelToTest {
+
+    @Test
+    void writesOutput() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (WritableByteChannel channel =
+            new WritableChannelTo(new OutputTo(baos))) {
+            new Assertion<>(
+                "must be open before writing",
+                channel.isOpen(),
+                new IsTrue()
+            ).affirm();
+            new Assertion<>(
+                "must write all bytes of the buffer",
+                channel.write(ByteBuffer.wrap("channel".getBytes())),
+                new IsEqual<>(7)
+            ).affirm();
+        }
+        new Assertion<>(
+            "must write into the output",
+            new InputOf(baos.toByteArray()),
+            new HasContent("channel")
+        ).affirm();
+    }
+
+    @Test
+    void isClosedAfterClose() throws Exception {
+        final WritableByteChannel channel =
+            new WritableChannelTo(new OutputTo(new ByteArrayOutputStream()));
+        channel.close();
+        new Assertion<>(
+            "must be closed",
+            channel.isOpen(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCreateFileToClose(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("never.txt");
+        final WritableByteChannel channel =
+            new WritableChannelTo(new OutputTo(file));
+        channel.isOpen();
+        channel.close();
+        new Assertion<>(
+            "must not open the output to check or close the channel",
+            Files.exists(file),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWriteAfterClose() throws Exception {
+        final WritableByteChannel channel = new WritableChannelTo(
+            new OutputTo(new ByteArrayOutputStream())
+        );
+        channel.close();
+        new Assertion<>(
+            "must reject writes after close",
+            () -> channel.write(ByteBuffer.wrap(new byte[] {1})),
+            new Throws<>(ClosedChannelException.class)
+        ).affirm();
+    }
+}
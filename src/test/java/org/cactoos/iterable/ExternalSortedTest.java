@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ExternalSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ExternalSortedTest {
+
+    @Test
+    void sortsLikeSorted(@TempDir final Path dir) throws Exception {
+        final Random random = new Random(3L);
+        final List<String> words = new ArrayList<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            words.add(String.format("%03d:%d", random.nextInt(300), idx));
+        }
+        final Comparator<String> cmp = Comparator.comparing(
+            word -> word.substring(0, 3)
+        );
+        new Assertion<>(
+            "Must sort stably through many spilled runs",
+            new ListOf<>(ExternalSortedTest.sorted(dir, cmp, 100, words)),
+            new IsEqual<>(new ListOf<>(new Sorted<>(cmp, words)))
+        ).affirm();
+        new Assertion<>(
+            "Must delete run files",
+            ExternalSortedTest.files(dir),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void sortsInMemoryWithinBudget(@TempDir final Path dir) throws Exception {
+        final Iterator<String> sorted = ExternalSortedTest.sorted(
+            dir, Comparator.reverseOrder(), 10,
+            new ListOf<>("b", "c", "a")
+        ).iterator();
+        new Assertion<>(
+            "Must sort without spilling",
+            sorted.next() + ExternalSortedTest.files(dir),
+            new IsEqual<>("c0")
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWrongBudget(@TempDir final Path dir) {
+        new Assertion<>(
+            "Must reject zero budget",
+            () -> ExternalSortedTest.sorted(
+                dir, Comparator.naturalOrder(), 0, new ListOf<>("a")
+            ).iterator(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    /**
+     * Sorted strings.
+     * @param dir Directory for runs
+     * @param cmp Comparator
+     * @param budget Budget
+     * @param words Strings
+     * @return Sorted strings
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Iterable<String> sorted(final Path dir,
+        final Comparator<String> cmp, final int budget,
+        final Iterable<String> words) {
+        return new ExternalSorted<>(
+            () -> dir, cmp, budget,
+            word -> new BytesOf(word, StandardCharsets.UTF_8),
+            bytes -> new String(bytes.asBytes(), StandardCharsets.UTF_8),
+            words
+        );
+    }
+
+    /**
+     * How many files are in the directory.
+     * @param dir The directory
+     * @return Count of files
+     * @throws Exception If fails
+     */
+    private static long files(final Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
@@ -23,11 +23,15 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.StartsWith;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsEmptyIterable;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -161,4 +165,33 @@ final class FilteredTest {
         ).affirm();
     }
 
+    @Test
+    void filtersInParallelStream() {
+        final ListOf<Integer> numbers = new ListOf<>();
+        for (int idx = 0; idx < 5000; ++idx) {
+            numbers.add(idx);
+        }
+        final Spliterator<Integer> split = new Filtered<>(
+            num -> num % 3 == 0, numbers
+        ).spliterator();
+        new Assertion<>(
+            "Must split, but not know the size",
+            split.trySplit() != null
+                && !split.hasCharacteristics(Spliterator.SIZED),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must filter items of a parallel stream in order",
+            StreamSupport.stream(
+                new Filtered<>(
+                    numbers, num -> () -> num % 3 == 0
+                ).spliterator(),
+                true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(
+                numbers.stream().filter(num -> num % 3 == 0)
+                    .collect(Collectors.toList())
+            )
+        ).affirm();
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
@@ -157,4 +159,27 @@ final class IterableOfTest {
             new IsEqual<>(new IterableOf<>(1, 2).hashCode())
         ).affirm();
     }
+
+    @Test
+    void splitsArrayInParallel() {
+        final Integer[] numbers = new Integer[10_000];
+        for (int idx = 0; idx < numbers.length; ++idx) {
+            numbers[idx] = idx;
+        }
+        final Spliterator<Integer> split =
+            new IterableOf<>(numbers).spliterator();
+        new Assertion<>(
+            "Must know the size of array parts",
+            split.hasCharacteristics(
+                Spliterator.SIZED | Spliterator.SUBSIZED
+            ) && split.trySplit().getExactSizeIfKnown() == 5_000L,
+            new IsTrue()
+        ).affirm();
+        new Assertion<>(
+            "Must sum array in parallel stream",
+            StreamSupport.stream(new IterableOf<>(numbers).spliterator(), true)
+                .mapToLong(Integer::longValue).sum(),
+            new IsEqual<>(49_995_000L)
+        ).affirm();
+    }
 }
@@ -24,6 +24,9 @@
 package org.cactoos.iterable;
 
 import java.util.Collections;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.cactoos.text.Upper;
@@ -89,4 +92,35 @@ final class MappedTest {
             new IsEqual<>(new IterableOf<>("A", "B", "C"))
         ).affirm();
     }
+
+    @Test
+    void keepsSizeOfSource() {
+        final Spliterator<String> split = new Mapped<>(
+            Object::toString, new ListOf<>(1, 2, 3, 4)
+        ).spliterator();
+        new Assertion<>(
+            "Must keep exact size of the source",
+            split.hasCharacteristics(Spliterator.SUBSIZED)
+                && split.trySplit().getExactSizeIfKnown() == 2L,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void mapsInParallelStream() {
+        final ListOf<Integer> numbers = new ListOf<>();
+        for (int idx = 0; idx < 5000; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must map items of a parallel stream in order",
+            StreamSupport.stream(
+                new Mapped<>(num -> num * 2, numbers).spliterator(), true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(
+                numbers.stream().map(num -> num * 2)
+                    .collect(Collectors.toList())
+            )
+        ).affirm();
+    }
 }
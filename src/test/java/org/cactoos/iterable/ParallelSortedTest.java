@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ParallelSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ParallelSortedTest {
+
+    @Test
+    void sortsLargeIterable() {
+        final Random random = new Random(7L);
+        final List<Integer> numbers = new ArrayList<>(0);
+        for (int idx = 0; idx < 100_000; ++idx) {
+            numbers.add(random.nextInt(1000));
+        }
+        final List<Integer> expected = new ArrayList<>(numbers);
+        expected.sort(Comparator.reverseOrder());
+        new Assertion<>(
+            "Must sort a large iterable in parallel",
+            new ListOf<>(
+                new ParallelSorted<>(Comparator.reverseOrder(), numbers)
+            ),
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    void sortsInNaturalOrder() {
+        new Assertion<>(
+            "Must sort in natural order",
+            new ParallelSorted<>(new IterableOf<>(3, 1, 2)),
+            new IsEqual<>(new IterableOf<>(1, 2, 3))
+        ).affirm();
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.cactoos.iterable;
 
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
 import org.cactoos.list.ListOf;
 import org.hamcrest.collection.IsEmptyIterable;
 import org.hamcrest.core.IsEqual;
@@ -138,4 +141,49 @@ final class SkippedTest {
             )
         ).affirm();
     }
+
+    @Test
+    void skipsItemsOfListWithoutIterating() {
+        new Assertion<>(
+            "Must skip items of a list without iterating them",
+            new ListOf<>(
+                new Skipped<>(Integer.MAX_VALUE - 2, SkippedTest.huge())
+            ),
+            new IsEqual<>(
+                new ListOf<>(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void skipsAllItemsOfShortList() {
+        new Assertion<>(
+            "Must skip all items of a short list",
+            new Skipped<>(5, new ListOf<>(1, 2)),
+            new IsEmptyIterable<>()
+        ).affirm();
+    }
+
+    /**
+     * Huge list that can't be iterated.
+     * @return The list
+     */
+    private static List<Integer> huge() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("iterator()");
+            }
+        };
+    }
 }
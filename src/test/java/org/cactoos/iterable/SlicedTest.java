@@ -23,6 +23,13 @@
  */
 package org.cactoos.iterable;
 
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -51,4 +58,119 @@ final class SlicedTest {
             )
         ).affirm();
     }
+
+    @Test
+    void splitsSliceOfList() {
+        final ListOf<Integer> numbers = new ListOf<>();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            numbers.add(idx);
+        }
+        final Spliterator<Integer> split =
+            new Sliced<>(1000, 3000, numbers).spliterator();
+        new Assertion<>(
+            "Must know the exact size of the slice",
+            split.getExactSizeIfKnown(),
+            new IsEqual<>(3000L)
+        ).affirm();
+        new Assertion<>(
+            "Must know the exact size of the slice part",
+            split.trySplit().getExactSizeIfKnown()
+                + split.getExactSizeIfKnown(),
+            new IsEqual<>(3000L)
+        ).affirm();
+        new Assertion<>(
+            "Must slice items of a parallel stream",
+            StreamSupport.stream(
+                new Sliced<>(1000, 3000, numbers).spliterator(), true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(numbers.subList(1000, 4000))
+        ).affirm();
+    }
+
+    @Test
+    void slicesUnsizedSource() {
+        new Assertion<>(
+            "Must slice items of an unsized source",
+            StreamSupport.stream(
+                new Sliced<>(
+                    2, 3,
+                    new IterableOf<>(new ListOf<>(1, 2, 3, 4, 5, 6).iterator())
+                ).spliterator(),
+                false
+            ).collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>(3, 4, 5))
+        ).affirm();
+    }
+
+    @Test
+    void slicesListWithoutIterating() {
+        new Assertion<>(
+            "Must slice a list without iterating skipped items",
+            new ListOf<>(new Sliced<>(1_000_000_000, 2, SlicedTest.huge())),
+            new IsEqual<>(new ListOf<>(1_000_000_000, 1_000_000_001))
+        ).affirm();
+    }
+
+    @Test
+    void slicesBeyondEndOfList() {
+        new Assertion<>(
+            "Must slice nothing beyond the end of a list",
+            new ListOf<>(new Sliced<>(7, 3, new ListOf<>(1, 2, 3))),
+            new IsEqual<>(new ListOf<Integer>())
+        ).affirm();
+    }
+
+    /**
+     * Huge list that can't be iterated.
+     * @return The list
+     */
+    private static List<Integer> huge() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("iterator()");
+            }
+        };
+    }
+
+    @Test
+    void clampsOverflowingCount() {
+        final List<Integer> expected = new ListOf<>(3, 4, 5);
+        new Assertion<>(
+            "Must slice a list up to its end",
+            new ListOf<>(
+                new Sliced<>(2, Integer.MAX_VALUE, new ListOf<>(1, 2, 3, 4, 5))
+            ),
+            new IsEqual<>(expected)
+        ).affirm();
+        new Assertion<>(
+            "Must slice an iterable up to its end",
+            new ListOf<>(
+                new Sliced<>(
+                    2, Integer.MAX_VALUE, new IterableOf<>(1, 2, 3, 4, 5)
+                )
+            ),
+            new IsEqual<>(expected)
+        ).affirm();
+        new Assertion<>(
+            "Must split an iterable up to its end",
+            StreamSupport.stream(
+                new Sliced<>(
+                    2, Integer.MAX_VALUE, new IterableOf<>(1, 2, 3, 4, 5)
+                ).spliterator(),
+                false
+            ).collect(Collectors.toList()),
+            new IsEqual<>(expected)
+        ).affirm();
+    }
 }
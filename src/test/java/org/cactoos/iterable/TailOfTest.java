@@ -23,6 +23,10 @@
  */
 package org.cactoos.iterable;
 
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -50,4 +54,54 @@ final class TailOfTest {
             )
         );
     }
+
+    @Test
+    void tailOfListWithoutIterating() {
+        MatcherAssert.assertThat(
+            "Can't get tail of a list without iterating",
+            new TailOf<>(2, TailOfTest.huge()),
+            Matchers.contains(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1)
+        );
+    }
+
+    @Test
+    void tailLongerThanList() {
+        MatcherAssert.assertThat(
+            "Can't get tail longer than a list",
+            new TailOf<>(5, new ListOf<>("a", "b")),
+            Matchers.contains("a", "b")
+        );
+    }
+
+    @Test
+    void emptyTailOfList() {
+        MatcherAssert.assertThat(
+            "Can't get empty tail of a list",
+            new TailOf<>(0, new ListOf<>("a", "b")),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Huge list that can't be iterated.
+     * @return The list
+     */
+    private static List<Integer> huge() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("iterator()");
+            }
+        };
+    }
 }
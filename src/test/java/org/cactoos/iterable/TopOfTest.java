@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.cactoos.list.ListOf;
+import org.hamcrest.collection.IsEmptyIterable;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TopOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class TopOfTest {
+
+    @Test
+    void takesLeastItems() {
+        new Assertion<>(
+            "Must take the least items in order",
+            new ListOf<>(new TopOf<>(3, 7, 2, 9, 4, 1, 8)),
+            new IsEqual<>(new ListOf<>(1, 2, 4))
+        ).affirm();
+    }
+
+    @Test
+    void takesSameItemsAsHeadOfSorted() {
+        final Random random = new Random(11L);
+        final List<String> words = new ArrayList<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            words.add(String.format("%03d-%d", random.nextInt(500), idx));
+        }
+        final Comparator<String> cmp = Comparator.comparing(
+            word -> word.substring(0, 3), Comparator.reverseOrder()
+        );
+        new Assertion<>(
+            "Must keep the order of equal items",
+            new ListOf<>(new TopOf<>(100, cmp, words)),
+            new IsEqual<>(
+                new ListOf<>(new HeadOf<>(100, new Sorted<>(cmp, words)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void takesAllItemsOfShortIterable() {
+        new Assertion<>(
+            "Must take all items if there are fewer",
+            new ListOf<>(
+                new TopOf<>(10, Comparator.reverseOrder(), "a", "c", "b")
+            ),
+            new IsEqual<>(new ListOf<>("c", "b", "a"))
+        ).affirm();
+    }
+
+    @Test
+    void takesNothing() {
+        new Assertion<>(
+            "Must take no items",
+            new TopOf<>(0, 1, 2, 3),
+            new IsEmptyIterable<>()
+        ).affirm();
+    }
+}
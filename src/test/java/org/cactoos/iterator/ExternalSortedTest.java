@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ExternalSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExternalSortedTest {
+
+    @Test
+    void mergesSpilledRuns() {
+        new Assertion<>(
+            "Must merge sorted runs",
+            new ListOf<>(
+                new ExternalSorted<Integer>(
+                    Comparator.naturalOrder(),
+                    2,
+                    num -> new BytesOf(num.toString()),
+                    bytes -> Integer.valueOf(new String(bytes.asBytes())),
+                    new IteratorOf<>(5, 3, 9, 1, 7, 2, 8)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 5, 7, 8, 9))
+        ).affirm();
+    }
+
+    @Test
+    void deletesRunsReadToTheEnd(@TempDir final Path dir) throws Exception {
+        new ListOf<>(
+            new ExternalSorted<Integer>(
+                () -> dir,
+                Comparator.naturalOrder(),
+                2,
+                num -> new BytesOf(num.toString()),
+                bytes -> Integer.valueOf(new String(bytes.asBytes())),
+                new IteratorOf<>(5, 3, 9, 1, 7, 2, 8)
+            )
+        );
+        new Assertion<>(
+            "Must delete run files after merging them",
+            dir.toFile().list().length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void deletesRunThatFailedToWrite(@TempDir final Path dir)
+        throws Exception {
+        new Assertion<>(
+            "Must fail to encode an item",
+            () -> new ExternalSorted<Integer>(
+                () -> dir,
+                Comparator.naturalOrder(),
+                1,
+                num -> {
+                    throw new IllegalStateException("Can't encode");
+                },
+                bytes -> Integer.valueOf(new String(bytes.asBytes())),
+                new IteratorOf<>(2, 1)
+            ).next(),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must delete the run file that failed",
+            dir.toFile().list().length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void deletesRunsThatFailedToOpen(@TempDir final Path dir)
+        throws Exception {
+        new Assertion<>(
+            "Must fail to decode an item",
+            () -> new ExternalSorted<Integer>(
+                () -> dir,
+                Comparator.naturalOrder(),
+                1,
+                num -> new BytesOf(num.toString()),
+                bytes -> {
+                    throw new IllegalStateException("Can't decode");
+                },
+                new IteratorOf<>(3, 2, 1)
+            ).next(),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must delete all run files",
+            dir.toFile().list().length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -118,4 +118,19 @@ final class SlicedTest {
             )
         ).affirm();
     }
+
+    @Test
+    void sliceWithOverflowingCount() {
+        new Assertion<>(
+            "Must return the tail when start and count overflow",
+            new IterableOf<>(
+                new Sliced<>(
+                    2,
+                    Integer.MAX_VALUE,
+                    new IteratorOf<>(1, 2, 3, 4, 5)
+                )
+            ),
+            new IsEqual<>(new IterableOf<>(3, 4, 5))
+        ).affirm();
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Concatenated}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ConcatenatedTest {
+
+    @Test
+    void behavesAsList() {
+        new Assertion<>(
+            "Must behave as a list",
+            new Concatenated<>(new ListOf<>(1, 2), new ListOf<>(3)),
+            new BehavesAsList<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void getsItemsAcrossEmptyLists() {
+        final List<String> list = new Concatenated<String>(
+            Collections.emptyList(),
+            new ListOf<>("a", "b"),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            new ListOf<>("c"),
+            Collections.emptyList()
+        );
+        final List<String> items = new ArrayList<>(list.size());
+        for (int idx = 0; idx < list.size(); ++idx) {
+            items.add(list.get(idx));
+        }
+        new Assertion<>(
+            "Must get items by index",
+            items,
+            new IsEqual<>(new ListOf<>("a", "b", "c"))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCopyItems() {
+        final List<Integer> huge = new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE / 2;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("Must not iterate");
+            }
+        };
+        new Assertion<>(
+            "Must delegate to source lists",
+            new Concatenated<>(huge, huge).get(Integer.MAX_VALUE / 2 + 5),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void seesChangesOfItems() {
+        final List<String> source = new ArrayList<>(new ListOf<>("a"));
+        final List<String> list = new Concatenated<>(
+            new ListOf<>("x"), source
+        );
+        source.set(0, "b");
+        new Assertion<>(
+            "Must see changes of source lists",
+            list.get(1),
+            new IsEqual<>("b")
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWrongIndex() {
+        new Assertion<>(
+            "Must reject an index out of bounds",
+            () -> new Concatenated<>(new ListOf<>(1)).get(1),
+            new Throws<>(IndexOutOfBoundsException.class)
+        ).affirm();
+    }
+
+    @Test
+    void seesChangesOfSizes() {
+        final List<Integer> source = new ArrayList<>(new ListOf<>(1, 2));
+        final List<Integer> list = new Concatenated<>(
+            source, new ListOf<>(3)
+        );
+        source.add(9);
+        new Assertion<>(
+            "Must see items added to source lists",
+            list,
+            new IsEqual<>(new ListOf<>(1, 2, 9, 3))
+        ).affirm();
+        source.clear();
+        new Assertion<>(
+            "Must see items removed from source lists",
+            list.get(0),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.Iterator;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Concurrent}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ConcurrentTest {
+
+    @Test
+    void behavesAsList() {
+        new Assertion<>(
+            "Must behave as a list",
+            new Concurrent<>(1, 2, 3),
+            new BehavesAsList<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void iteratesSnapshot() {
+        final List<String> list = new Concurrent<>("a", "b");
+        final Iterator<String> iter = list.iterator();
+        list.add("c");
+        iter.next();
+        iter.next();
+        new Assertion<>(
+            "Must iterate a snapshot taken before the update",
+            iter.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must see the update afterwards",
+            list,
+            new IsEqual<>(new ListOf<>("a", "b", "c"))
+        ).affirm();
+    }
+
+    @Test
+    void allowsUpdatesWhileIterating() {
+        final List<Integer> list = new Concurrent<>(1, 2, 3);
+        for (final Integer item : list) {
+            list.add(item);
+        }
+        new Assertion<>(
+            "Must not fail on updates during iteration",
+            list.size(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Compact}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CompactTest {
+
+    @Test
+    void behavesAsMap() {
+        new Assertion<>(
+            "Must behave as a map",
+            new Compact<Integer, Integer>(
+                new MapEntry<>(0, -1),
+                new MapEntry<>(1, 1)
+            ),
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void mapsItemsWithoutEntries() {
+        new Assertion<>(
+            "Must map items with functions",
+            new Compact<>(
+                String::length,
+                String::toUpperCase,
+                new IterableOf<>("a", "bb", "ccc")
+            ),
+            new HasEntry<>(2, "BB")
+        ).affirm();
+    }
+
+    @Test
+    void keepsLastValueOfRepeatedKey() {
+        final Map<String, Integer> map = new Compact<String, Integer>(
+            new MapEntry<>("a", 1),
+            new MapEntry<>("a", 2)
+        );
+        new Assertion<>(
+            "Must keep the last value",
+            map,
+            new IsEqual<>(new MapOf<>("a", 2))
+        ).affirm();
+    }
+
+    @Test
+    void matchesHashMap() {
+        final Random random = new Random(7L);
+        final Map<String, Integer> expected = new HashMap<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            expected.put(Integer.toString(random.nextInt(8000)), idx);
+        }
+        final Map<String, Integer> map = new Compact<>(expected);
+        new Assertion<>(
+            "Must have the same entries as a HashMap",
+            map,
+            new IsEqual<>(expected)
+        ).affirm();
+        new Assertion<>(
+            "Must have the same size as a HashMap",
+            map.size(),
+            new IsEqual<>(expected.size())
+        ).affirm();
+    }
+
+    @Test
+    void returnsNullForAbsentKey() {
+        new Assertion<>(
+            "Must return NULL for an absent key",
+            new Compact<String, Integer>().get("x"),
+            new IsNull<>()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsModification() {
+        new Assertion<>(
+            "Must reject put",
+            () -> new Compact<String, Integer>().put("a", 1),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNulls() {
+        new Assertion<>(
+            "Must reject NULL values",
+            () -> new Compact<String, Integer>(
+                new MapEntry<>("a", null)
+            ).size(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void buildsTableOnceOnFirstUse() {
+        final AtomicInteger keys = new AtomicInteger();
+        final Map<String, Integer> map = new Compact<>(
+            (String item) -> {
+                keys.incrementAndGet();
+                return item;
+            },
+            String::length,
+            new IterableOf<>("a", "bb")
+        );
+        new Assertion<>(
+            "Must not build the table in the constructor",
+            keys.get(),
+            new IsEqual<>(0)
+        ).affirm();
+        map.get("a");
+        map.size();
+        new Assertion<>(
+            "Must build the table only once",
+            keys.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
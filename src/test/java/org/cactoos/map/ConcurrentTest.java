@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link Concurrent}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ConcurrentTest {
+
+    @Test
+    void behavesAsMap() {
+        new Assertion<>(
+            "Must behave as a map",
+            new Concurrent<Integer, Integer>(
+                new MapEntry<>(0, -1),
+                new MapEntry<>(1, 1)
+            ),
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void mapsItems() {
+        new Assertion<>(
+            "Must map items with functions",
+            new Concurrent<>(
+                new IterableOf<>(1, 2, 3),
+                num -> num,
+                num -> num * num
+            ),
+            new HasEntry<>(3, 9)
+        ).affirm();
+    }
+
+    @Test
+    void isBackedByConcurrentMap() {
+        final Map<String, Integer> map = new Concurrent<>(
+            new MapEntry<>("a", 1)
+        );
+        map.put("b", 2);
+        new Assertion<>(
+            "Must accept updates",
+            map.get("b"),
+            new IsEqual<>(2)
+        ).affirm();
+        new Assertion<>(
+            "Must not be a copy of the origin",
+            new Concurrent<>(new ConcurrentHashMap<>(map)).size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void acceptsUpdatesFromManyThreads() throws Exception {
+        final Map<Integer, Integer> map = new Concurrent<>();
+        final int threads = 8;
+        final ExecutorService svc = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int thread = 0; thread < threads; ++thread) {
+            final int base = thread * 1000;
+            svc.submit(
+                () -> {
+                    start.await();
+                    for (int idx = 0; idx < 1000; ++idx) {
+                        map.put(base + idx, idx);
+                    }
+                    return map.size();
+                }
+            );
+        }
+        start.countDown();
+        svc.shutdown();
+        svc.awaitTermination(1L, TimeUnit.MINUTES);
+        new Assertion<>(
+            "Must keep all entries",
+            map.size(),
+            new IsEqual<>(threads * 1000)
+        ).affirm();
+    }
+
+    @Test
+    void computesAbsentValuesOnce() throws Exception {
+        final ConcurrentMap<Integer, Integer> map = new Concurrent<>();
+        final AtomicInteger calls = new AtomicInteger();
+        ConcurrentTest.inThreads(
+            () -> {
+                for (int idx = 0; idx < 100; ++idx) {
+                    map.computeIfAbsent(
+                        idx,
+                        key -> {
+                            calls.incrementAndGet();
+                            Thread.yield();
+                            return key;
+                        }
+                    );
+                }
+            }
+        );
+        new Assertion<>(
+            "Must compute each value only once",
+            calls.get(),
+            new IsEqual<>(100)
+        ).affirm();
+    }
+
+    @Test
+    void mergesFromManyThreads() throws Exception {
+        final ConcurrentMap<String, Integer> map = new Concurrent<>();
+        ConcurrentTest.inThreads(
+            () -> {
+                for (int idx = 0; idx < 1000; ++idx) {
+                    map.merge("hits", 1, Integer::sum);
+                }
+            }
+        );
+        new Assertion<>(
+            "Must not lose any merge",
+            map.get("hits"),
+            new IsEqual<>(8000)
+        ).affirm();
+    }
+
+    @Test
+    void copiesSourceMap() {
+        final Map<String, Integer> source = new HashMap<>(0);
+        source.put("a", 1);
+        final Map<String, Integer> map = new Concurrent<>(source);
+        source.put("b", 2);
+        new Assertion<>(
+            "Must not see changes of the source",
+            map.size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    /**
+     * Run the task in eight threads at once.
+     * @param task The task
+     * @throws Exception If fails
+     */
+    private static void inThreads(final Runnable task) throws Exception {
+        final int threads = 8;
+        final ExecutorService svc = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Collection<Future<?>> futures = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            futures.add(
+                svc.submit(
+                    () -> {
+                        start.await();
+                        task.run();
+                        return null;
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        svc.shutdown();
+        svc.awaitTermination(1L, TimeUnit.MINUTES);
+    }
+}
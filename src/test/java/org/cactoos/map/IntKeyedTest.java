@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.IteratorOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link IntKeyed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class IntKeyedTest {
+
+    @Test
+    void behavesAsMap() {
+        new Assertion<>(
+            "Must behave as a map",
+            new IntKeyed<Integer>(
+                new MapEntry<>(0, -1),
+                new MapEntry<>(1, 1)
+            ),
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void findsValueByPrimitiveKey() {
+        new Assertion<>(
+            "Must find a value by a primitive key",
+            new IntKeyed<>(
+                new int[] {200, 404},
+                new IterableOf<>("OK", "Not Found")
+            ).get(404),
+            new IsEqual<>("Not Found")
+        ).affirm();
+    }
+
+    @Test
+    void keepsNegativeAndZeroKeys() {
+        final IntKeyed<String> map = new IntKeyed<>(
+            new int[] {0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE},
+            new IterableOf<>("zero", "minus", "min", "max")
+        );
+        new Assertion<>(
+            "Must find all keys",
+            map.get(0) + map.get(-1) + map.get(Integer.MIN_VALUE)
+                + map.get(Integer.MAX_VALUE),
+            new IsEqual<>("zerominusminmax")
+        ).affirm();
+    }
+
+    @Test
+    void matchesHashMap() {
+        final Random random = new Random(11L);
+        final Map<Integer, Integer> expected = new HashMap<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            expected.put(random.nextInt() % 4000, idx);
+        }
+        final Map<Integer, Integer> map = new IntKeyed<>(expected);
+        new Assertion<>(
+            "Must have the same entries as a HashMap",
+            map,
+            new IsEqual<>(expected)
+        ).affirm();
+        new Assertion<>(
+            "Must have the same size as a HashMap",
+            map.size(),
+            new IsEqual<>(expected.size())
+        ).affirm();
+    }
+
+    @Test
+    void returnsNullForAbsentKey() {
+        new Assertion<>(
+            "Must return NULL for a key of other type",
+            new IntKeyed<String>(new MapEntry<>(1, "a")).get("1"),
+            new IsNull<>()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsMismatchedValues() {
+        new Assertion<>(
+            "Must reject more keys than values",
+            () -> new IntKeyed<>(
+                new int[] {1, 2}, new IterableOf<>("a")
+            ).size(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void readsOneShotSourceOnce() {
+        final Iterator<Map.Entry<Integer, String>> once = new IteratorOf<>(
+            new MapEntry<>(1, "one"),
+            new MapEntry<>(2, "two")
+        );
+        final Iterable<Map.Entry<Integer, String>> entries = () -> once;
+        new Assertion<>(
+            "Must read entries of a one-shot source once",
+            new IntKeyed<String>(entries).get(2),
+            new IsEqual<>("two")
+        ).affirm();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Layered}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LayeredTest {
+
+    @Test
+    void behavesAsMap() {
+        new Assertion<>(
+            "Must behave as a map",
+            new Layered<Integer, Integer>(
+                new MapOf<>(0, -1),
+                new MapOf<>(1, 1)
+            ),
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void overridesByNextMaps() {
+        final Map<String, String> map = new Layered<String, String>(
+            new MapOf<String, String>(
+                new MapEntry<>("host", "localhost"),
+                new MapEntry<>("port", "80")
+            ),
+            new MapOf<>("port", "8080")
+        );
+        new Assertion<>(
+            "Must take the value from the last map",
+            map,
+            new HasEntry<>("port", "8080")
+        ).affirm();
+        new Assertion<>(
+            "Must have the same entries as Merged",
+            map,
+            new IsEqual<>(
+                new Merged<String, String>(
+                    new MapOf<String, String>(
+                        new MapEntry<>("host", "localhost"),
+                        new MapEntry<>("port", "80")
+                    ),
+                    new MapOf<>("port", "8080")
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must count overridden keys once",
+            map.size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void seesChangesOfMaps() {
+        final Map<String, Integer> source = new HashMap<>(0);
+        final Map<String, Integer> map = new Layered<String, Integer>(
+            new MapOf<>("a", 1), source
+        );
+        source.put("a", 2);
+        new Assertion<>(
+            "Must see changes of source maps",
+            map.get("a"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void returnsNullForAbsentKey() {
+        new Assertion<>(
+            "Must return NULL for an absent key",
+            new Layered<String, Integer>(new MapOf<>("a", 1)).get("b"),
+            new IsNull<>()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsModification() {
+        new Assertion<>(
+            "Must reject put",
+            () -> new Layered<String, Integer>().put("a", 1),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void countsKeysOfManyLayersOnce() {
+        new Assertion<>(
+            "Must count each key once, whatever layers hold it",
+            new Layered<String, Integer>(
+                new MapOf<String, Integer>(
+                    new MapEntry<>("a", 1),
+                    new MapEntry<>("b", 1)
+                ),
+                new MapOf<String, Integer>(
+                    new MapEntry<>("b", 2),
+                    new MapEntry<>("c", 2)
+                ),
+                new MapOf<>("a", 3)
+            ).size(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
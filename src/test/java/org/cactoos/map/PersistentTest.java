@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Persistent}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class PersistentTest {
+
+    @Test
+    void behavesAsMap() {
+        new Assertion<>(
+            "Must behave as a map",
+            new Persistent<Integer, Integer>(
+                new MapEntry<>(0, -1),
+                new MapEntry<>(1, 1)
+            ),
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void addsWithoutChangingOrigin() {
+        final Persistent<String, Integer> first = new Persistent<>(
+            new MapEntry<>("one", 1)
+        );
+        final Persistent<String, Integer> second = first.with("two", 2);
+        new Assertion<>(
+            "Must add the entry",
+            second,
+            new HasEntry<>("two", 2)
+        ).affirm();
+        new Assertion<>(
+            "Must not change the origin",
+            first.containsKey("two"),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void replacesValue() {
+        final Persistent<String, Integer> map = new Persistent<>(
+            new MapEntry<>("a", 1)
+        ).with("a", 2);
+        new Assertion<>(
+            "Must replace the value and keep the size",
+            map.size() == 1 && map.get("a") == 2,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void removesWithoutChangingOrigin() {
+        final Persistent<String, Integer> first = new Persistent<>(
+            new MapEntry<>("a", 1),
+            new MapEntry<>("b", 2)
+        );
+        final Persistent<String, Integer> second = first.without("a");
+        new Assertion<>(
+            "Must remove the entry",
+            second,
+            new IsEqual<>(new MapOf<>("b", 2))
+        ).affirm();
+        new Assertion<>(
+            "Must not change the origin",
+            first.size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void ignoresAbsentKeyOnRemoval() {
+        final Persistent<String, Integer> map = new Persistent<>(
+            new MapEntry<>("a", 1)
+        );
+        new Assertion<>(
+            "Must return the same map",
+            map.without("z") == map,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void matchesHashMap() {
+        final Random random = new Random(42L);
+        final Map<Integer, Integer> expected = new HashMap<>(0);
+        Persistent<Integer, Integer> map = new Persistent<>();
+        for (int idx = 0; idx < 20_000; ++idx) {
+            final int key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, idx);
+                map = map.with(key, idx);
+            }
+        }
+        new Assertion<>(
+            "Must have the same entries as a HashMap",
+            map,
+            new IsEqual<>(expected)
+        ).affirm();
+        new Assertion<>(
+            "Must iterate all entries",
+            new HashMap<>(map).size(),
+            new IsEqual<>(expected.size())
+        ).affirm();
+    }
+
+    @Test
+    void keepsCollidingKeys() {
+        final Persistent<String, Integer> map = new Persistent<>(
+            new MapEntry<>("Aa", 1),
+            new MapEntry<>("BB", 2),
+            new MapEntry<>("C#", 3)
+        );
+        new Assertion<>(
+            "Must keep keys with equal hashes",
+            map.get("Aa") + map.get("BB") + map.get("C#"),
+            new IsEqual<>(6)
+        ).affirm();
+        new Assertion<>(
+            "Must remove one of keys with equal hashes",
+            map.without("BB"),
+            new IsEqual<>(
+                new MapOf<String, Integer>(
+                    new MapEntry<>("Aa", 1), new MapEntry<>("C#", 3)
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must remove all keys with equal hashes",
+            map.without("BB").without("Aa").without("C#").isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void returnsNullForAbsentKey() {
+        new Assertion<>(
+            "Must return NULL for an absent key",
+            new Persistent<String, Integer>().get("x"),
+            new IsNull<>()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsModification() {
+        new Assertion<>(
+            "Must reject put",
+            () -> new Persistent<String, Integer>().put("a", 1),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNulls() {
+        new Assertion<>(
+            "Must reject NULL values",
+            () -> new Persistent<String, Integer>().with("a", null),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
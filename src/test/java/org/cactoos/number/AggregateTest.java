@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Aggregate}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AggregateTest {
+
+    @Test
+    void sumsLongsExactlyBeyondOverflow() {
+        new Assertion<>(
+            "Must sum longs exactly even if they overflow",
+            new Aggregate(
+                new IterableOf<Number>(Long.MAX_VALUE, Long.MAX_VALUE, 2L)
+            ).total(),
+            new IsEqual<>(new BigDecimal("18446744073709551616"))
+        ).affirm();
+    }
+
+    @Test
+    void compensatesRoundingErrors() {
+        final Number[] values = new Number[10_001];
+        values[0] = 1.0e16d;
+        for (int idx = 1; idx < values.length; ++idx) {
+            values[idx] = 1.0d;
+        }
+        new Assertion<>(
+            "Must not lose small values added to a big one",
+            new Aggregate(new IterableOf<>(values)).total(),
+            new IsEqual<>(1.0e16d + 10_000.0d)
+        ).affirm();
+    }
+
+    @Test
+    void sumsMixedTypes() {
+        new Assertion<>(
+            "Must sum numbers of all types",
+            new Aggregate(
+                new IterableOf<Number>(
+                    1, 2L, 0.5d, 0.25f, new BigDecimal("0.125")
+                )
+            ).total(),
+            new IsEqual<>(new BigDecimal("3.875"))
+        ).affirm();
+    }
+
+    @Test
+    void findsNonTerminatingAverage() {
+        new Assertion<>(
+            "Must find average that is a periodic fraction",
+            new Aggregate(new IterableOf<Number>(1, 2, 2)).average()
+                .doubleValue(),
+            new IsEqual<>(5.0d / 3.0d)
+        ).affirm();
+    }
+}
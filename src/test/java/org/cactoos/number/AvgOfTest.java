@@ -343,4 +343,13 @@ public final class AvgOfTest {
             new AllOf<Number>(new IsNumber(2.5), new IsNumber(2.5))
         ).affirm();
     }
+
+    @Test
+    public void withDoublesExactly() {
+        new Assertion<>(
+            "Average of doubles must be exact",
+            new AvgOf(0.1d, 0.2d).doubleValue(),
+            Matchers.equalTo(0.15d)
+        ).affirm();
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CompensatedAvgOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CompensatedAvgOfTest {
+
+    @Test
+    void findsAverageOfInts() {
+        new Assertion<>(
+            "Must find the average of ints",
+            new CompensatedAvgOf(1, 2, 2).doubleValue(),
+            new IsEqual<>(5.0d / 3.0d)
+        ).affirm();
+    }
+
+    @Test
+    void findsZeroForEmptySource() {
+        new Assertion<>(
+            "Must be zero for no numbers",
+            new CompensatedAvgOf(Collections.emptyList()).longValue(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void findsAverageOnlyOnce() {
+        final AtomicInteger passes = new AtomicInteger();
+        final CompensatedAvgOf avg = new CompensatedAvgOf(
+            new IterableOf<>(
+                () -> {
+                    passes.incrementAndGet();
+                    return new ListOf<Number>(2.0d, 4.0d).iterator();
+                }
+            )
+        );
+        avg.intValue();
+        avg.floatValue();
+        new Assertion<>(
+            "Must walk the source only once",
+            avg.doubleValue() + passes.get(),
+            new IsEqual<>(4.0d)
+        ).affirm();
+    }
+}
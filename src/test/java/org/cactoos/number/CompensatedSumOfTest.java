@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CompensatedSumOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CompensatedSumOfTest {
+
+    @Test
+    void sumsLongsExactly() {
+        new Assertion<>(
+            "Must sum longs exactly",
+            new CompensatedSumOf(Long.MAX_VALUE - 1L, 1L).longValue(),
+            new IsEqual<>(Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test
+    void sumsDoublesAsDoubles() {
+        new Assertion<>(
+            "Must sum doubles in floating point",
+            new CompensatedSumOf(0.1d, 0.2d).doubleValue(),
+            new IsEqual<>(0.1d + 0.2d)
+        ).affirm();
+    }
+
+    @Test
+    void sumsOnlyOnce() {
+        final AtomicInteger passes = new AtomicInteger();
+        final CompensatedSumOf sum = new CompensatedSumOf(
+            new IterableOf<>(
+                () -> {
+                    passes.incrementAndGet();
+                    return new ListOf<Number>(1, 2, 3).iterator();
+                }
+            )
+        );
+        sum.intValue();
+        sum.doubleValue();
+        new Assertion<>(
+            "Must walk the source only once",
+            sum.longValue() + passes.get(),
+            new IsEqual<>(7L)
+        ).affirm();
+    }
+
+    @Test
+    void ignoresChangesAfterFirstCall() {
+        final List<Number> source = new ArrayList<>(new ListOf<>(1, 2));
+        final CompensatedSumOf sum = new CompensatedSumOf(source);
+        sum.intValue();
+        source.add(3);
+        new Assertion<>(
+            "Must cache the sum",
+            sum.intValue(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
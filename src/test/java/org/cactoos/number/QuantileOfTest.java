@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.number.IsCloseTo;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link QuantileOf}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class QuantileOfTest {
+
+    @Test
+    void findsPercentile() {
+        final List<Number> latencies = new ArrayList<>(0);
+        for (int idx = 1; idx <= 1000; ++idx) {
+            latencies.add(idx * 0.5);
+        }
+        new Assertion<>(
+            "Must find 99th percentile within 1%",
+            new QuantileOf(0.99, latencies).doubleValue(),
+            new IsCloseTo(495.0, 4.95)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWrongQuantile() {
+        new Assertion<>(
+            "Must reject quantile above one",
+            () -> new QuantileOf(1.5, new ArrayList<Number>(0)).doubleValue(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
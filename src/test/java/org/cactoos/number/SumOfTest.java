@@ -24,6 +24,7 @@
 package org.cactoos.number;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
@@ -152,4 +153,31 @@ final class SumOfTest {
             new IsEqual<>(4_294_967_300.0f)
         );
     }
+
+    @Test
+    void sumsDoublesExactly() {
+        MatcherAssert.assertThat(
+            new SumOf(0.1d, 0.2d).doubleValue(),
+            new IsEqual<>(0.3d)
+        );
+    }
+
+    @Test
+    void sumsLiveSourceOnEveryCall() {
+        final AtomicInteger passes = new AtomicInteger();
+        final SumOf sum = new SumOf(
+            new IterableOf<>(
+                () -> {
+                    passes.incrementAndGet();
+                    return new ListOf<Number>(1, 2, 3).iterator();
+                }
+            )
+        );
+        sum.intValue();
+        sum.doubleValue();
+        MatcherAssert.assertThat(
+            sum.longValue() + passes.get(),
+            new IsEqual<>(9L)
+        );
+    }
 }
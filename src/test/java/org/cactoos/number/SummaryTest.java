@@ -0,0 +1,238 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.number.IsCloseTo;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Summary}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SummaryTest {
+
+    @Test
+    void findsAllStatisticsAtOnce() {
+        final Summary summary = new Summary(
+            new IterableOf<Number>(2, 4L, 4.0f, 4.0d, 5, 5, 7, 9)
+        );
+        new Assertion<>(
+            "Must find count, sum, mean, variance, min and max",
+            new double[] {
+                summary.count(), summary.sum(), summary.mean(),
+                summary.variance(), summary.min(), summary.max(),
+            },
+            new IsEqual<>(new double[] {8.0, 40.0, 5.0, 4.0, 2.0, 9.0})
+        ).affirm();
+    }
+
+    @Test
+    void readsSourceOnlyOnce() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Summary summary = new Summary(
+            new Mapped<>(
+                num -> {
+                    reads.incrementAndGet();
+                    return num;
+                },
+                new IterableOf<>(1, 2, 3)
+            )
+        );
+        summary.mean();
+        summary.variance();
+        summary.quantile(0.5);
+        new Assertion<>(
+            "Must read each number only once",
+            reads.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void mergesPartitions() {
+        final Random random = new Random(42L);
+        final List<Number> first = new ArrayList<>(0);
+        final List<Number> second = new ArrayList<>(0);
+        final List<Number> all = new ArrayList<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            final double value = random.nextGaussian() * 10.0 + 100.0;
+            if (idx % 3 == 0) {
+                first.add(value);
+            } else {
+                second.add(value);
+            }
+            all.add(value);
+        }
+        final Summary merged = new Summary(
+            new Summary(first), new Summary(second)
+        );
+        final Summary whole = new Summary(all);
+        new Assertion<>(
+            "Must merge counts",
+            merged.count(),
+            new IsEqual<>(whole.count())
+        ).affirm();
+        new Assertion<>(
+            "Must merge means",
+            merged.mean(),
+            new IsCloseTo(whole.mean(), 1.0e-9)
+        ).affirm();
+        new Assertion<>(
+            "Must merge variances",
+            merged.variance(),
+            new IsCloseTo(whole.variance(), 1.0e-7)
+        ).affirm();
+        new Assertion<>(
+            "Must merge quantiles",
+            merged.quantile(0.9),
+            new IsEqual<>(whole.quantile(0.9))
+        ).affirm();
+    }
+
+    @Test
+    void estimatesQuantilesWithinAccuracy() {
+        final List<Number> values = new ArrayList<>(0);
+        for (int idx = 1; idx <= 100_000; ++idx) {
+            values.add(idx);
+        }
+        final Summary summary = new Summary(values);
+        for (final double quantile : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            final double exact = 1.0 + Math.floor(quantile * 99_999.0);
+            new Assertion<>(
+                String.format("Must estimate quantile %f", quantile),
+                summary.quantile(quantile),
+                new IsCloseTo(exact, exact * 0.01)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void estimatesQuantilesOfNegativesAndZeros() {
+        final Summary summary = new Summary(
+            0.001, new IterableOf<Number>(-300, -200, -100, 0, 0, 100, 200)
+        );
+        final double[] quantiles = {0.0, 0.2, 0.5, 0.9, 1.0};
+        final double[] expected = {-300.0, -200.0, 0.0, 100.0, 200.0};
+        for (int idx = 0; idx < quantiles.length; ++idx) {
+            new Assertion<>(
+                String.format("Must estimate quantile %f", quantiles[idx]),
+                summary.quantile(quantiles[idx]),
+                new IsCloseTo(expected[idx], Math.abs(expected[idx]) * 0.001)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsQuantilesBetweenMinAndMax() {
+        new Assertion<>(
+            "Must not estimate quantile beyond the maximum",
+            new Summary(new IterableOf<Number>(7.0, 7.0, 7.0)).quantile(0.5),
+            new IsEqual<>(7.0)
+        ).affirm();
+    }
+
+    @Test
+    void failsOnEmptyQuantile() {
+        new Assertion<>(
+            "Must fail to find a quantile of nothing",
+            () -> new Summary(new IterableOf<Number>()).quantile(0.5),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsSummariesOfDifferentAccuracy() {
+        new Assertion<>(
+            "Must not merge summaries of different accuracy",
+            () -> new Summary(
+                new Summary(0.01, new IterableOf<Number>(1)),
+                new Summary(0.02, new IterableOf<Number>(2))
+            ).mean(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsPositiveInfinity() {
+        new Assertion<>(
+            "Must reject positive infinity",
+            () -> new Summary(
+                new IterableOf<>(1.0d, Double.POSITIVE_INFINITY)
+            ).count(),
+            new Throws<>(
+                "Can't summarize Infinity",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsLeadingInfinity() {
+        new Assertion<>(
+            "Must reject infinity before finite values",
+            () -> new Summary(
+                new IterableOf<>(Double.POSITIVE_INFINITY, 1.0d)
+            ).max(),
+            new Throws<>(
+                "Can't summarize Infinity",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNegativeInfinity() {
+        new Assertion<>(
+            "Must reject negative infinity",
+            () -> new Summary(
+                new IterableOf<>(Double.NEGATIVE_INFINITY)
+            ).quantile(0.5d),
+            new Throws<>(
+                "Can't summarize -Infinity",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNan() {
+        new Assertion<>(
+            "Must reject NaN",
+            () -> new Summary(new IterableOf<>(1.0d, Double.NaN)).count(),
+            new Throws<>("Can't summarize NaN", IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link VarianceOf}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class VarianceOfTest {
+
+    @Test
+    void findsVariance() {
+        new Assertion<>(
+            "Must find population variance",
+            new VarianceOf(
+                new IterableOf<Number>(2, 4, 4, 4, 5, 5, 7, 9)
+            ).doubleValue(),
+            new IsEqual<>(4.0)
+        ).affirm();
+    }
+
+    @Test
+    void findsZeroVarianceOfNothing() {
+        new Assertion<>(
+            "Must find zero variance of empty iterable",
+            new VarianceOf(new IterableOf<Number>()).doubleValue(),
+            new IsEqual<>(0.0)
+        ).affirm();
+    }
+
+    @Test
+    void sharesSummaryWithOthers() {
+        final Summary summary = new Summary(new IterableOf<Number>(1, 2, 3));
+        new Assertion<>(
+            "Must find statistics from one summary",
+            new double[] {
+                new VarianceOf(summary).doubleValue() * 3.0,
+                new AvgOf(summary).doubleValue(),
+                new SumOf(summary).doubleValue(),
+                new MinOf(summary).doubleValue(),
+                new MaxOf(summary).doubleValue(),
+            },
+            new IsEqual<>(new double[] {2.0, 2.0, 6.0, 1.0, 3.0})
+        ).affirm();
+    }
+}
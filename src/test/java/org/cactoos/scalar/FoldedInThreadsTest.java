@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.iterable.IterableOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class FoldedInThreadsTest {
+
+    @Test
+    void foldsLargeList() {
+        final List<String> words = new ArrayList<>(0);
+        for (int idx = 0; idx < 50_000; ++idx) {
+            words.add("word");
+        }
+        new Assertion<>(
+            "Must fold a large list in parallel",
+            new FoldedInThreads<Long, String>(
+                0L, (sum, word) -> sum + word.length(), Long::sum, words
+            ),
+            new HasValue<>(200_000L)
+        ).affirm();
+    }
+
+    @Test
+    void foldsPartsInOrder() {
+        final List<Integer> digits = new ArrayList<>(0);
+        final StringBuilder expected = new StringBuilder(0);
+        for (int idx = 0; idx < 500; ++idx) {
+            digits.add(idx % 10);
+            expected.append(idx % 10);
+        }
+        final ExecutorService svc = Executors.newFixedThreadPool(3);
+        try {
+            new Assertion<>(
+                "Must combine folded parts in their order",
+                new FoldedInThreads<String, Integer>(
+                    svc, 7, "", (str, num) -> str + num, String::concat,
+                    digits
+                ),
+                new HasValue<>(expected.toString())
+            ).affirm();
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void returnsInputOfEmptySource() {
+        new Assertion<>(
+            "Must return input if there is nothing to fold",
+            new FoldedInThreads<Integer, Integer>(
+                0, Integer::sum, Integer::sum, new IterableOf<Integer>()
+            ),
+            new HasValue<>(0)
+        ).affirm();
+    }
+}
@@ -24,7 +24,11 @@
 package org.cactoos.scalar;
 
 import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -129,4 +133,38 @@ final class ItemAtTest {
             new HasValue<>(item.value())
         ).affirm();
     }
+
+    @Test
+    void takesItemOfListByIndex() {
+        final List<Integer> list = new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("iterator()");
+            }
+        };
+        new Assertion<>(
+            "Must take item of a list without iterating",
+            new ItemAt<>(1_000_000_000, list),
+            new HasValue<>(1_000_000_000)
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackBeyondEndOfList() {
+        new Assertion<>(
+            "Must fall back if a list is too short",
+            new ItemAt<>(5, "none", new ListOf<>("one")),
+            new HasValue<>("none")
+        ).affirm();
+    }
 }
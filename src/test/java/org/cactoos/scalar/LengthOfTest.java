@@ -24,6 +24,8 @@
 
 package org.cactoos.scalar;
 
+import java.util.AbstractList;
+import java.util.Iterator;
 import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.text.TextOf;
@@ -122,4 +124,30 @@ final class LengthOfTest {
             new HasValue<>(12L)
         ).affirm();
     }
+
+    @Test
+    void takesSizeOfCollection() {
+        new Assertion<>(
+            "Must take size of a collection without iterating",
+            new LengthOf(
+                new AbstractList<Integer>() {
+                    @Override
+                    public Integer get(final int index) {
+                        return index;
+                    }
+
+                    @Override
+                    public int size() {
+                        return Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public Iterator<Integer> iterator() {
+                        throw new UnsupportedOperationException("iterator()");
+                    }
+                }
+            ),
+            new HasValue<>((long) Integer.MAX_VALUE)
+        ).affirm();
+    }
 }
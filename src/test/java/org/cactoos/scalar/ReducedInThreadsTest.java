@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReducedInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ReducedInThreadsTest {
+
+    @Test
+    void reducesLargeList() {
+        final List<Long> numbers = new ArrayList<>(0);
+        for (long idx = 1L; idx <= 100_000L; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must reduce a large list in parallel",
+            new ReducedInThreads<>(numbers, Long::sum),
+            new HasValue<>(5_000_050_000L)
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfParts() throws Exception {
+        final List<String> letters = new ArrayList<>(0);
+        final StringBuilder expected = new StringBuilder(0);
+        for (int idx = 0; idx < 1000; ++idx) {
+            final String letter = String.valueOf((char) ('a' + idx % 26));
+            letters.add(letter);
+            expected.append(letter);
+        }
+        final ExecutorService svc = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must combine parts in their order",
+                new ReducedInThreads<>(svc, 10, letters, String::concat),
+                new HasValue<>(expected.toString())
+            ).affirm();
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void reducesSmallSourceInCallingThread() throws Exception {
+        final Collection<Thread> threads = ConcurrentHashMap.newKeySet();
+        new ReducedInThreads<Integer>(
+            (first, second) -> {
+                threads.add(Thread.currentThread());
+                return first + second;
+            },
+            1, 2, 3, 4
+        ).value();
+        new Assertion<>(
+            "Must reduce a small source sequentially",
+            threads,
+            new IsEqual<>(Collections.singleton(Thread.currentThread()))
+        ).affirm();
+    }
+
+    @Test
+    void failsOnEmptySource() {
+        new Assertion<>(
+            "Must fail to reduce an empty source",
+            new ReducedInThreads<Integer>(Integer::sum),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rethrowsFailureOfPart() {
+        final List<Integer> numbers = new ArrayList<>(0);
+        for (int idx = 0; idx < 100; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must rethrow the failure of a part",
+            new ReducedInThreads<Integer>(
+                Executors.newSingleThreadExecutor(), 5, numbers,
+                (first, second) -> {
+                    if (first == 50 || second == 50) {
+                        throw new IllegalStateException("fifty");
+                    }
+                    return first + second;
+                }
+            ),
+            new Throws<>("fifty", IllegalStateException.class)
+        ).affirm();
+    }
+}
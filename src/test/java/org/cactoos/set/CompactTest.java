@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.set;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Compact}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CompactTest {
+
+    @Test
+    void behavesAsSet() {
+        new Assertion<>(
+            "Must behave as a set",
+            new Compact<>(1, 2, 2, 3),
+            new BehavesAsSet<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void removesDuplicates() {
+        new Assertion<>(
+            "Must keep distinct items",
+            new Compact<>("a", "b", "a"),
+            new IsEqual<>(new SetOf<>("a", "b"))
+        ).affirm();
+    }
+
+    @Test
+    void matchesHashSet() {
+        final Random random = new Random(3L);
+        final Set<Long> expected = new HashSet<>(0);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            expected.add(random.nextLong() % 5000L);
+        }
+        new Assertion<>(
+            "Must have the same items as a HashSet",
+            new Compact<>(expected),
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsModification() {
+        new Assertion<>(
+            "Must reject add",
+            () -> new Compact<String>().add("a"),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void buildsTableOnceOnFirstUse() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Set<Integer> set = new Compact<>(
+            new Mapped<>(
+                num -> {
+                    reads.incrementAndGet();
+                    return num;
+                },
+                new IterableOf<>(1, 2, 3)
+            )
+        );
+        new Assertion<>(
+            "Must not build the table in the constructor",
+            reads.get(),
+            new IsEqual<>(0)
+        ).affirm();
+        set.contains(2);
+        set.size();
+        new Assertion<>(
+            "Must build the table only once",
+            reads.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
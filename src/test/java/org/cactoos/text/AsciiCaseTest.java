@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Locale;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link AsciiCase}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsciiCaseTest {
+
+    @Test
+    void convertsAllAsciiCharsLikeString() throws Exception {
+        final StringBuilder all = new StringBuilder(0x80);
+        for (char chr = 0; chr < 0x80; ++chr) {
+            all.append(chr);
+        }
+        final String str = all.toString();
+        new Assertion<>(
+            "Must make ASCII lower case just like String",
+            new AsciiCase(false, Locale.ENGLISH).apply(str),
+            new IsEqual<>(str.toLowerCase(Locale.ENGLISH))
+        ).affirm();
+        new Assertion<>(
+            "Must make ASCII upper case just like String",
+            new AsciiCase(true, Locale.ENGLISH).apply(str),
+            new IsEqual<>(str.toUpperCase(Locale.ENGLISH))
+        ).affirm();
+    }
+
+    @Test
+    void swapsCase() throws Exception {
+        new Assertion<>(
+            "Must swap case of ASCII letters",
+            new AsciiCase(true, true, str -> "fallback").apply("aB-@[`{z"),
+            new IsEqual<>("Ab-@[`{Z")
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackForNonAscii() throws Exception {
+        new Assertion<>(
+            "Must convert non ASCII text with the fallback",
+            new AsciiCase(true, Locale.ENGLISH).apply("straße"),
+            new IsEqual<>("STRASSE")
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackForTurkishLocale() throws Exception {
+        final Locale turkish = new Locale("tr");
+        new Assertion<>(
+            "Must respect special rules of the locale",
+            new AsciiCase(false, turkish).apply("TITLE"),
+            new IsEqual<>("TITLE".toLowerCase(turkish))
+        ).affirm();
+    }
+}
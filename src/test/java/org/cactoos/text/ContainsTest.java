@@ -129,4 +129,19 @@ final class ContainsTest {
             new HasValue<>(Boolean.FALSE)
         ).affirm();
     }
+
+    @Test
+    void containsAnyOfKeywords() {
+        final Keywords words = new Keywords("fatal", "error", "panic");
+        new Assertion<>(
+            "Keywords must be found in the text",
+            new Contains("disk error at 10:00", words),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Keywords must not be found in the text",
+            new Contains(new TextOf("all is fine"), words),
+            new HasValue<>(false)
+        ).affirm();
+    }
 }
@@ -28,6 +28,7 @@ import java.util.IllegalFormatConversionException;
 import java.util.Locale;
 import java.util.UnknownFormatConversionException;
 import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -115,4 +116,35 @@ public final class FormattedTextTest {
             new HasString("Format with text: Cactoos")
         ).affirm();
     }
+
+    @Test
+    public void formatsWithTemplate() {
+        new Assertion<>(
+            "Can't format a string with a compiled template",
+            new FormattedText(
+                new Template("%s took %d ms (%x)%n", Locale.ENGLISH),
+                "GET", 42L, 255
+            ),
+            new HasString(
+                String.format("GET took 42 ms (ff)%n")
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void hashesTemplateAsPattern() {
+        final FormattedText text = new FormattedText(
+            new Template("%d", Locale.ENGLISH), 1
+        );
+        new Assertion<>(
+            "Must hash the same as a formatted pattern",
+            text.hashCode(),
+            new IsEqual<>(new FormattedText("%d", 1).hashCode())
+        ).affirm();
+        new Assertion<>(
+            "Must hash the same on every call",
+            text.hashCode(),
+            new IsEqual<>(text.hashCode())
+        ).affirm();
+    }
 }
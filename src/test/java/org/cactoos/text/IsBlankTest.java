@@ -66,4 +66,13 @@ final class IsBlankTest {
             new HasValue<>(Boolean.FALSE)
         ).affirm();
     }
+
+    @Test
+    void determinesBlankTextOfAllSpaces() {
+        new Assertion<>(
+            "Must treat all white spaces as blank",
+            new IsBlank(new TextOf(" \t\n\u000B\f\r\u001C\u001F\u2003")),
+            new HasValue<>(Boolean.TRUE)
+        ).affirm();
+    }
 }
@@ -23,9 +23,12 @@
  */
 package org.cactoos.text;
 
+import org.cactoos.Text;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.IsText;
 
 /**
  * Test case for {@link Joined}.
@@ -68,4 +71,32 @@ final class JoinedTest {
             new HasString("one two")
         ).affirm();
     }
+
+    @Test
+    void joinsTextsWithoutCopies() {
+        new Assertion<>(
+            "Must join texts without turning them into strings",
+            new Joined(
+                new TextOf(() -> new Unflattened("-")),
+                new Sub(new TextOf(() -> new Unflattened("abc")), 1),
+                new TextOf(() -> new Unflattened("d"))
+            ),
+            new IsText("bc-d")
+        ).affirm();
+    }
+
+    @Test
+    void hashesAsFlatText() {
+        final Text joined = new Joined(" ", "hello", "world");
+        new Assertion<>(
+            "Must hash the same as a flat text",
+            joined.hashCode(),
+            new IsEqual<>(new TextOf("hello world").hashCode())
+        ).affirm();
+        new Assertion<>(
+            "Must hash the same on every call",
+            joined.hashCode(),
+            new IsEqual<>(joined.hashCode())
+        ).affirm();
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.cactoos.list.ListOf;
+import org.cactoos.map.MapEntry;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Keywords}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class KeywordsTest {
+
+    @Test
+    void findsSameAsNaiveSearch() {
+        final Random random = new Random(42L);
+        final List<String> words = new ArrayList<>(0);
+        for (int idx = 0; idx < 20; ++idx) {
+            words.add(KeywordsTest.random(random, 1 + random.nextInt(4)));
+        }
+        final Keywords keywords = new Keywords(words);
+        for (int idx = 0; idx < 50; ++idx) {
+            final String text = KeywordsTest.random(random, 30);
+            new Assertion<>(
+                String.format("Must find all keywords in '%s'", text),
+                new ListOf<>(new Occurrences(text, keywords)).size(),
+                new IsEqual<>(KeywordsTest.naive(text, words))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void isReusedForManyTexts() {
+        final Keywords words = new Keywords("ab", "b");
+        new Assertion<>(
+            "Must find keywords in the first text",
+            new Contains("xxab", words),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must not find keywords in the second text",
+            new Contains("xxa", words),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyKeyword() {
+        new Assertion<>(
+            "Must reject an empty keyword",
+            () -> new Contains("text", new Keywords("a", "")).value(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void ignoresDuplicates() {
+        new Assertion<>(
+            "Must report each occurrence once",
+            new ListOf<>(new Occurrences("abab", new Keywords("ab", "ab"))),
+            new IsEqual<>(
+                new ListOf<Map.Entry<Integer, String>>(
+                    new MapEntry<>(0, "ab"),
+                    new MapEntry<>(2, "ab")
+                )
+            )
+        ).affirm();
+    }
+
+    /**
+     * Random string of 'a', 'b' and 'c'.
+     * @param random Randomizer
+     * @param length Length
+     * @return The string
+     */
+    private static String random(final Random random, final int length) {
+        final StringBuilder str = new StringBuilder(length);
+        for (int idx = 0; idx < length; ++idx) {
+            str.append((char) ('a' + random.nextInt(3)));
+        }
+        return str.toString();
+    }
+
+    /**
+     * Number of occurrences of distinct words, found naively.
+     * @param text The text
+     * @param words The words
+     * @return Number of occurrences
+     */
+    private static int naive(final String text, final List<String> words) {
+        int count = 0;
+        for (final String word : new HashSet<>(words)) {
+            for (int pos = text.indexOf(word); pos >= 0;
+                pos = text.indexOf(word, pos + 1)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
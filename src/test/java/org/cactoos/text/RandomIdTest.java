@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Random;
+import org.cactoos.Text;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RandomId}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RandomIdTest {
+
+    @Test
+    void makesUrlSafeIdsByDefault() throws Exception {
+        new Assertion<>(
+            "Must make 22 URL-safe chars",
+            new RandomId().asString().matches("[A-Za-z0-9_-]{22}"),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void makesNewTextEveryTime() throws Exception {
+        final Text id = new RandomId();
+        new Assertion<>(
+            "Must make a new text on every evaluation",
+            id.asString(),
+            new IsNot<>(new IsEqual<>(id.asString()))
+        ).affirm();
+    }
+
+    @Test
+    void takesCharsWithoutBias() throws Exception {
+        final String text = new RandomId(30_000, "abc").asString();
+        final int[] counts = new int[3];
+        for (final char chr : text.toCharArray()) {
+            ++counts[chr - 'a'];
+        }
+        for (final int count : counts) {
+            new Assertion<>(
+                "Must take every char of the alphabet equally often",
+                Math.abs(count - 10_000) < 500,
+                new IsTrue()
+            ).affirm();
+        }
+    }
+
+    @Test
+    void usesGivenRandomizer() throws Exception {
+        new Assertion<>(
+            "Must be reproducible with the same seed",
+            new RandomId(16, "01", () -> new Random(7L)).asString(),
+            new IsEqual<>(
+                new RandomId(16, "01", () -> new Random(7L)).asString()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyAlphabet() {
+        new Assertion<>(
+            "Must reject an empty alphabet",
+            () -> new RandomId(5, "").asString(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void worksInThreads() {
+        new Assertion<>(
+            "Must make ids in many threads",
+            txt -> txt.asString().length() == 10,
+            new RunsInThreads<>(new RandomId(10))
+        ).affirm();
+    }
+}
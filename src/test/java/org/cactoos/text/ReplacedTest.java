@@ -24,8 +24,11 @@
 package org.cactoos.text;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -189,4 +192,58 @@ final class ReplacedTest {
             new HasString("3 3 GHI1JKL")
         ).affirm();
     }
+
+    @Test
+    void expandsGroupReferencesLikeString() throws Exception {
+        final String text = "john.smith@example.com, jane@test.org";
+        final String regex = "(?<user>[a-z.]+)@([a-z]+)\\.([a-z]+)";
+        final String replace = "${user} at $2 \\$$3$10";
+        new Assertion<>(
+            "Must expand group references just like String does",
+            new Replaced(new TextOf(text), regex, replace).asString(),
+            new IsEqual<>(text.replaceAll(regex, replace))
+        ).affirm();
+    }
+
+    @Test
+    void replacesLiteralWithoutRegex() {
+        new Assertion<>(
+            "Must replace all occurrences of a literal",
+            new Replaced(new TextOf("a, b,, c"), ", ", ";"),
+            new HasString("a;b,;c")
+        ).affirm();
+    }
+
+    @Test
+    void compilesPatternOnce() throws Exception {
+        final AtomicInteger compiled = new AtomicInteger();
+        final Replaced replaced = new Replaced(
+            new TextOf("one two"),
+            () -> {
+                compiled.incrementAndGet();
+                return Pattern.compile("o");
+            },
+            matcher -> "0"
+        );
+        replaced.asString();
+        replaced.asString();
+        new Assertion<>(
+            "Must compile the pattern only once",
+            compiled.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void replacesKeywordsLeftmostLongestFirst() {
+        new Assertion<>(
+            "Must replace keywords, the leftmost and longest first",
+            new Replaced(
+                new TextOf("ushers and his hero"),
+                new Keywords("he", "she", "his", "hers", "hero"),
+                word -> word.toUpperCase(Locale.ENGLISH)
+            ),
+            new HasString("uSHErs and HIS HERO")
+        ).affirm();
+    }
 }
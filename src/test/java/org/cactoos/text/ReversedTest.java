@@ -56,4 +56,13 @@ final class ReversedTest {
             new HasString("")
         ).affirm();
     }
+
+    @Test
+    void keepsSurrogatePairs() {
+        new Assertion<>(
+            "Must keep surrogate pairs in order",
+            new Reversed(new TextOf("a\uD83D\uDE00b")),
+            new HasString("b\uD83D\uDE00a")
+        ).affirm();
+    }
 }
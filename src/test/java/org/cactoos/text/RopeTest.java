@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Rope}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class RopeTest {
+
+    @Test
+    void concatenatesParts() {
+        new Assertion<>(
+            "must concatenate all parts",
+            new TextOf(
+                new Rope("Hello", ", ", new StringBuilder("world"), "!")
+            ),
+            new IsText("Hello, world!")
+        ).affirm();
+    }
+
+    @Test
+    void concatenatesIterable() {
+        new Assertion<>(
+            "must concatenate all parts of iterable",
+            new Rope(new ListOf<>("a", "", "b", "c")).toString(),
+            new IsEqual<>("abc")
+        ).affirm();
+    }
+
+    @Test
+    void findsCharsAcrossParts() {
+        final CharSequence rope = new Rope("ab", "", "", "cde", "f");
+        final StringBuilder chars = new StringBuilder();
+        for (int idx = 0; idx < rope.length(); ++idx) {
+            chars.append(rope.charAt(idx));
+        }
+        new Assertion<>(
+            "must find every char in its part",
+            chars.toString(),
+            new IsEqual<>("abcdef")
+        ).affirm();
+    }
+
+    @Test
+    void slicesAcrossParts() {
+        new Assertion<>(
+            "must slice across parts",
+            new Rope("Hello", ", ", "world", "!").subSequence(3, 9).toString(),
+            new IsEqual<>("lo, wo")
+        ).affirm();
+    }
+
+    @Test
+    void slicesSlices() {
+        final CharSequence rope = new Rope(
+            new Rope("0123", "4567").subSequence(1, 7),
+            new StringBuilder("89")
+        );
+        new Assertion<>(
+            "must slice nested views",
+            rope.subSequence(2, 8).subSequence(1, 5).toString(),
+            new IsEqual<>("4568")
+        ).affirm();
+    }
+
+    @Test
+    void returnsItselfForFullRange() {
+        final CharSequence rope = new Rope("a", "b");
+        new Assertion<>(
+            "must not slice the whole rope",
+            rope.subSequence(0, 2),
+            new IsSame<>(rope)
+        ).affirm();
+    }
+
+    @Test
+    void returnsEmptyForEmptyRange() {
+        new Assertion<>(
+            "must return empty sequence",
+            new Rope("a", "b").subSequence(1, 1).length(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsIndexOutOfBounds() {
+        new Assertion<>(
+            "must reject index out of bounds",
+            () -> new Rope("abc").charAt(3),
+            new Throws<>(IndexOutOfBoundsException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRangeOutOfBounds() {
+        new Assertion<>(
+            "must reject range out of bounds",
+            () -> new Rope("abc", "def").subSequence(2, 7),
+            new Throws<>(IndexOutOfBoundsException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsIndexOutOfSlice() {
+        new Assertion<>(
+            "must reject index out of slice",
+            () -> new Rope("abc", "def").subSequence(1, 2).charAt(1),
+            new Throws<>(IndexOutOfBoundsException.class)
+        ).affirm();
+    }
+}
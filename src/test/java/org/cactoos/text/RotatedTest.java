@@ -26,6 +26,7 @@ package org.cactoos.text;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.IsText;
 
 /**
  * Test case for {@link Rotated}.
@@ -91,4 +92,16 @@ final class RotatedTest {
             new HasString("")
         ).affirm();
     }
+
+    @Test
+    void rotatesSubTextWithoutCopies() {
+        new Assertion<>(
+            "Must rotate texts without turning them into strings",
+            new Rotated(
+                new Sub(new TextOf(() -> new Unflattened("xHello")), 1),
+                2
+            ),
+            new IsText("loHel")
+        ).affirm();
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Text;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link Solid}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SolidTest {
+
+    @Test
+    void evaluatesOnlyOnce() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final Text text = new Solid(
+            () -> String.valueOf(count.incrementAndGet())
+        );
+        text.asString();
+        text.hashCode();
+        new Assertion<>(
+            "Must evaluate the origin only once",
+            text.asString(),
+            new IsEqual<>("1")
+        ).affirm();
+    }
+
+    @Test
+    void equalsToOtherTexts() {
+        new Assertion<>(
+            "Must be equal to any text with the same content",
+            new Solid("hello").equals(new TextOf("hello"))
+                && new TextOf("hello").equals(new Solid("hello"))
+                && new Solid("hello").equals(new Solid(new TextOf("hello")))
+                && !new Solid("hello").equals(new Solid("world")),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void worksAsMapKey() {
+        final Map<Text, Integer> counts = new HashMap<>();
+        for (final Text word : new Split("a b a c a", " ")) {
+            counts.merge(new Solid(word), 1, Integer::sum);
+        }
+        new Assertion<>(
+            "Must be usable as a map key",
+            counts.get(new Solid("a")),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void worksInThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        final Text text = new Solid(
+            () -> String.valueOf(count.incrementAndGet())
+        );
+        new Assertion<>(
+            "Must evaluate once in many threads",
+            txt -> "1".equals(txt.asString()),
+            new RunsInThreads<>(text)
+        ).affirm();
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.cactoos.text;
 
+import java.util.regex.Pattern;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.core.IsEqual;
@@ -132,4 +133,30 @@ final class SplitTest {
             )
         ).affirm();
     }
+
+    @Test
+    void splitWithPrecompiledPattern() throws Exception {
+        new Assertion<>(
+            "Must split text with precompiled pattern",
+            new Split(new TextOf("a1b22c333"), Pattern.compile("\\d+")),
+            new IsEqual<>(
+                new IterableOf<>(new TextOf("a"), new TextOf("b"), new TextOf("c"))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitsManyTimes() throws Exception {
+        final Split split = new Split("a,b,,c,,", ",");
+        split.forEach(token -> { });
+        new Assertion<>(
+            "Must split the text again on each iteration",
+            split,
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("a"), new TextOf("b"), new TextOf(""), new TextOf("c")
+                )
+            )
+        ).affirm();
+    }
 }
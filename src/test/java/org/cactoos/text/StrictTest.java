@@ -117,4 +117,16 @@ final class StrictTest {
             new IsText("text1")
         ).affirm();
     }
+
+    /**
+     * Ensures that Strict validates text with a regular expression.
+     */
+    @Test
+    void failsIfNotMatchedWithRegex() {
+        new Assertion<>(
+            "Must fail if the text does not match the regex",
+            () -> new Strict("^[0-9]+$", new TextOf("text1")).asString(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
@@ -24,7 +24,9 @@
 package org.cactoos.text;
 
 import org.cactoos.Func;
+import org.cactoos.Text;
 import org.cactoos.func.FuncOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -67,4 +69,33 @@ final class SubTest {
         ).affirm();
     }
 
+    @Test
+    void cutsConcatenatedTextWithoutCopies() {
+        new Assertion<>(
+            "Must cut texts without turning them into strings",
+            new Sub(
+                new Concatenated(
+                    new TextOf(() -> new Unflattened("Hello, ")),
+                    new TextOf(() -> new Unflattened("world"))
+                ),
+                3, 9
+            ),
+            new IsText("lo, wo")
+        ).affirm();
+    }
+
+    @Test
+    void hashesAsFlatText() {
+        final Text sub = new Sub(new Joined("", "hello", "world"), 3, 7);
+        new Assertion<>(
+            "Must hash the same as a flat text",
+            sub.hashCode(),
+            new IsEqual<>(new TextOf("lowo").hashCode())
+        ).affirm();
+        new Assertion<>(
+            "Must hash the same on every call",
+            sub.hashCode(),
+            new IsEqual<>(sub.hashCode())
+        ).affirm();
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Template}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TemplateTest {
+
+    @Test
+    void rendersLikeStringFormat() throws Exception {
+        final Calendar date = new GregorianCalendar(2020, Calendar.MAY, 3);
+        final Object[][] cases = {
+            {"plain text"},
+            {"%s and %s", "a", null},
+            {"%d|%d|%d|%d|%d", 1, -2L, (short) 3, (byte) -4, BigInteger.TEN},
+            {"%x|%x|%x|%x|%x", -1, -1L, (short) -1, (byte) -1,
+                BigInteger.valueOf(-255L)},
+            {"%5s|%-5s|%05d|%,d|%.2f", "a", "b", 42, 1_234_567, 3.14_159},
+            {"%2$s %1$s %<s %s", "x", "y"},
+            {"100%% done%n"},
+            {"%tY-%<tm-%<td", date},
+            {"%S %X %d", "up", 255, null},
+        };
+        for (final Object[] item : cases) {
+            final Object[] args = new Object[item.length - 1];
+            System.arraycopy(item, 1, args, 0, args.length);
+            final StringBuilder out = new StringBuilder();
+            new Template((String) item[0], Locale.ENGLISH).render(out, args);
+            new Assertion<>(
+                String.format("Must render '%s' like String.format", item[0]),
+                out.toString(),
+                new IsEqual<>(
+                    String.format(Locale.ENGLISH, (String) item[0], args)
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void rendersIntoAppendable() throws Exception {
+        final Template tpl = new Template("[%s:%d]");
+        final StringWriter out = new StringWriter();
+        tpl.render(out, "a", 1);
+        tpl.render(out, "b", 2);
+        new Assertion<>(
+            "Must render into appendable many times",
+            out.toString(),
+            new IsEqual<>("[a:1][b:2]")
+        ).affirm();
+    }
+
+    @Test
+    void failsOnMissingArgument() {
+        new Assertion<>(
+            "Must fail if an argument is missing",
+            () -> {
+                new Template("%s %s").render(new StringBuilder(), "a");
+                return true;
+            },
+            new Throws<>(MissingFormatArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsOnUnknownConversion() {
+        new Assertion<>(
+            "Must fail on unknown conversion",
+            () -> {
+                new Template("100%").render(new StringBuilder());
+                return true;
+            },
+            new Throws<>(UnknownFormatConversionException.class)
+        ).affirm();
+    }
+}
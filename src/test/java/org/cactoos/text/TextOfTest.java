@@ -35,6 +35,7 @@ import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.IsNull;
+import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.EndsWith;
@@ -403,4 +404,23 @@ final class TextOfTest {
             new IsEqual<>(hash.hashCode())
         ).affirm();
     }
+
+    @Test
+    void returnsStringWithoutTranscoding() throws Exception {
+        final String str = "direct \ud800 string";
+        new Assertion<>(
+            "Must return the same string, without encoding it",
+            new TextOf(str).asString(),
+            new IsSame<>(str)
+        ).affirm();
+    }
+
+    @Test
+    void readsCharSequenceWithoutTranscoding() throws Exception {
+        new Assertion<>(
+            "Must keep the chars, which can't be encoded",
+            new TextOf(new StringBuilder("broken \udc00 surrogate")).asString(),
+            new IsEqual<>("broken \udc00 surrogate")
+        ).affirm();
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Tokens}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TokensTest {
+
+    /**
+     * Texts to split.
+     */
+    private static final String[] TEXTS = {
+        "", ",", ",,", "a", "a,b", ",a,,b,,", "a,,,", ",,a", "a::b::c:",
+        "::a", "1:2,3::4",
+    };
+
+    /**
+     * Delimiters.
+     */
+    private static final String[] DELIMS = {
+        ",", "::", ":", "[,:]", ":*", "", "\\W+", "(?=a)",
+    };
+
+    /**
+     * Limits.
+     */
+    private static final int[] LIMITS = {-1, 0, 1, 2, 3};
+
+    @Test
+    void splitsLikeString() {
+        for (final String text : TokensTest.TEXTS) {
+            for (final String delim : TokensTest.DELIMS) {
+                for (final int limit : TokensTest.LIMITS) {
+                    new Assertion<>(
+                        String.format(
+                            "Must split '%s' by '%s' with limit %d",
+                            text, delim, limit
+                        ),
+                        new ListOf<>(
+                            new Mapped<>(
+                                CharSequence::toString,
+                                new Tokens(
+                                    text, Pattern.compile(delim), limit
+                                )
+                            )
+                        ),
+                        new IsEqual<>(new ListOf<>(text.split(delim, limit)))
+                    ).affirm();
+                }
+            }
+        }
+    }
+
+    @Test
+    void splitsByChar() {
+        new Assertion<>(
+            "Must split by single char",
+            new ListOf<>(
+                new Mapped<>(
+                    CharSequence::toString,
+                    new Tokens(new StringBuilder("x|y||z||"), '|')
+                )
+            ),
+            new IsEqual<>(new ListOf<>("x", "y", "", "z"))
+        ).affirm();
+    }
+
+    @Test
+    void splitsByLiteralInCharSequence() {
+        new Assertion<>(
+            "Must split char sequence by literal",
+            new ListOf<>(
+                new Mapped<>(
+                    CharSequence::toString,
+                    new Tokens(
+                        new Rope("a.", "*b.*", "c"),
+                        Pattern.compile(".*", Pattern.LITERAL)
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "c"))
+        ).affirm();
+    }
+}
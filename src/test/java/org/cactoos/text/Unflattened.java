@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+/**
+ * Char sequence, which must never be turned into a string.
+ *
+ * <p>Use it to check that decorators read chars of their origins, instead
+ * of copying them into strings.</p>
+ *
+ * @since 1.0
+ */
+final class Unflattened implements CharSequence {
+
+    /**
+     * The chars.
+     */
+    private final String chars;
+
+    /**
+     * Ctor.
+     * @param str The chars
+     */
+    Unflattened(final String str) {
+        this.chars = str;
+    }
+
+    @Override
+    public int length() {
+        return this.chars.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return this.chars.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new Unflattened(this.chars.substring(start, end));
+    }
+
+    @Override
+    public String toString() {
+        throw new IllegalStateException("Must not be turned into a string");
+    }
+}